@@ -0,0 +1,4 @@
+package com.kubernetes.platform.cache;
+
+public record EncodedItem(long version, byte[] json) {
+}
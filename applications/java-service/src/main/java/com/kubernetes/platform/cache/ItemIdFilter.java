@@ -0,0 +1,182 @@
+package com.kubernetes.platform.cache;
+
+import com.kubernetes.platform.invalidation.ItemInvalidationTransport;
+import com.kubernetes.platform.repository.ItemRepository;
+import com.kubernetes.platform.service.ItemChangedEvent;
+import com.kubernetes.platform.service.ItemsInvalidatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bloom filter of live item ids used to answer lookups for ids that were never created
+ * without a database round trip. Ids are added as soon as they are saved, before commit, so
+ * a reader can never be refused an item that exists; deleted ids linger as false positives
+ * until the next periodic rebuild. Ids saved by transactions that are still open when a
+ * rebuild starts are carried over, since the rebuild scan cannot see them yet. Until the
+ * first rebuild completes every id passes. Ids created by other instances only arrive through
+ * the {@link ItemInvalidationTransport}, so such an id can be reported missing for up to one
+ * poll after it was committed; if the transport has not delivered anything for longer than
+ * {@code app.id-filter.max-staleness}, negative answers fall through to the database.
+ */
+@Component
+public class ItemIdFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemIdFilter.class);
+    private static final int REBUILD_PAGE_SIZE = 10000;
+
+    private final ItemRepository itemRepository;
+    private final ItemInvalidationTransport transport;
+    private final long initialCapacity;
+    private final double falsePositiveRate;
+    private final long maxStalenessNanos;
+    private final Counter rejected;
+    private final Counter passed;
+    private final Counter unverified;
+    private final Counter falsePositives;
+    private final Set<Long> uncommitted = ConcurrentHashMap.newKeySet();
+
+    private volatile ScalableBloomFilter filter;
+    private ScalableBloomFilter rebuilding;
+
+    @Autowired
+    public ItemIdFilter(ItemRepository itemRepository, ObjectProvider<ItemInvalidationTransport> transport,
+                        @Value("${app.id-filter.initial-capacity:10000}") long initialCapacity,
+                        @Value("${app.id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                        @Value("${app.id-filter.max-staleness:5s}") Duration maxStaleness,
+                        MeterRegistry meterRegistry) {
+        this.itemRepository = itemRepository;
+        this.transport = transport.getIfAvailable();
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+
+        this.rejected = meterRegistry.counter("item_id_filter_checks_total", "service", "java-service", "result", "rejected");
+        this.passed = meterRegistry.counter("item_id_filter_checks_total", "service", "java-service", "result", "passed");
+        this.unverified = meterRegistry.counter("item_id_filter_checks_total", "service", "java-service", "result", "unverified");
+        this.falsePositives = meterRegistry.counter("item_id_filter_false_positives_total", "service", "java-service");
+        Gauge.builder("item_id_filter_false_positive_probability", this, ItemIdFilter::falsePositiveProbability)
+                .tag("service", "java-service").register(meterRegistry);
+    }
+
+    /**
+     * Returns {@code false} only if no item with this id exists.
+     */
+    public boolean mightExist(Long id) {
+        long requestedAt = System.nanoTime();
+        ScalableBloomFilter current = filter;
+        if (current == null || current.mightContain(id)) {
+            passed.increment();
+            return true;
+        }
+        // A stalled transport could hide ids created by other instances for arbitrarily long
+        if (transport != null && requestedAt - transport.deliveredThrough() > maxStalenessNanos) {
+            unverified.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Records that an id which passed {@link #mightExist} was not found.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    public synchronized void add(Long id) {
+        if (filter != null) {
+            filter.add(id);
+        }
+        if (rebuilding != null) {
+            rebuilding.add(id);
+        }
+    }
+
+    @EventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.after() != null) {
+            uncommitted.add(event.id());
+            add(event.id());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onItemChangeCompleted(ItemChangedEvent event) {
+        uncommitted.remove(event.id());
+    }
+
+    // After commit and off the writing thread: a full rebuild scans every id and must neither run inside the bulk
+    // transaction that triggered it nor miss the rows that transaction wrote
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemsInvalidated(ItemsInvalidatedEvent event) {
+        if (event.isAll()) {
+            rebuild();
+        } else {
+            event.itemIds().forEach(this::add);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.id-filter.rebuild-interval-ms:300000}",
+            initialDelayString = "${app.id-filter.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long capacity = Math.max(initialCapacity, itemRepository.count() * 2);
+        synchronized (this) {
+            if (rebuilding != null) {
+                return;
+            }
+            rebuilding = new ScalableBloomFilter(capacity, falsePositiveRate);
+            uncommitted.forEach(rebuilding::add);
+        }
+
+        try {
+            long count = 0;
+            Long lastId = 0L;
+            List<Long> ids;
+            do {
+                ids = itemRepository.findIdsGreaterThan(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                synchronized (this) {
+                    ids.forEach(rebuilding::add);
+                }
+                count += ids.size();
+                lastId = ids.isEmpty() ? lastId : ids.get(ids.size() - 1);
+            } while (ids.size() == REBUILD_PAGE_SIZE);
+
+            synchronized (this) {
+                filter = rebuilding;
+            }
+            logger.info("Rebuilt item id filter with {} ids in {} ms", count, System.currentTimeMillis() - start);
+        } finally {
+            synchronized (this) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    private double falsePositiveProbability() {
+        ScalableBloomFilter current = filter;
+        return current != null ? current.falsePositiveProbability() : 0;
+    }
+}
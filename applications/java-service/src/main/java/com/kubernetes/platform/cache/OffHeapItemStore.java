@@ -0,0 +1,371 @@
+package com.kubernetes.platform.cache;
+
+import com.kubernetes.platform.service.ItemChangedEvent;
+import com.kubernetes.platform.service.ItemsInvalidatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Cache of serialized item JSON held outside the Java heap. Entries are appended to fixed-size
+ * direct {@link ByteBuffer} slabs as {@code [long id][long version][int length][bytes]} and
+ * located through an open-addressing {@code long -> long} index of {@code (slab << 32) | offset}. When no slab
+ * has room, a fully dead slab is reused, otherwise the slab with the most dead bytes is
+ * compacted in place if at least half of it is dead, otherwise the oldest slab is evicted.
+ * Ids must be positive: zero and negative keys mark empty and deleted index slots.
+ */
+@Component
+public class OffHeapItemStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffHeapItemStore.class);
+
+    private static final int VERSION_OFFSET = Long.BYTES;
+    private static final int LENGTH_OFFSET = 2 * Long.BYTES;
+    private static final int HEADER_BYTES = 2 * Long.BYTES + Integer.BYTES;
+    private static final long EMPTY = 0;
+    private static final long TOMBSTONE = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int slabSize;
+    private final Slab[] slabs;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] locations = new long[INITIAL_CAPACITY];
+    private int size;
+    private int occupied;
+    private int current = -1;
+
+    private static class Slab {
+        ByteBuffer buffer;
+        int position;
+        int liveBytes;
+        int liveEntries;
+        long sequence;
+    }
+
+    @Autowired
+    public OffHeapItemStore(@Value("${app.offheap.slab-size:4MB}") DataSize slabSize,
+                            @Value("${app.offheap.max-size:32MB}") DataSize maxSize,
+                            MeterRegistry meterRegistry) {
+        this.slabSize = Math.toIntExact(slabSize.toBytes());
+        this.slabs = new Slab[Math.max(1, (int) (maxSize.toBytes() / slabSize.toBytes()))];
+        for (int i = 0; i < slabs.length; i++) {
+            slabs[i] = new Slab();
+        }
+
+        this.hits = meterRegistry.counter("offheap_item_store_requests_total", "service", "java-service", "result", "hit");
+        this.misses = meterRegistry.counter("offheap_item_store_requests_total", "service", "java-service", "result", "miss");
+        this.evictions = meterRegistry.counter("offheap_item_store_evictions_total", "service", "java-service");
+        Gauge.builder("offheap_item_store_bytes", this, store -> store.allocatedBytes())
+                .tag("service", "java-service").tag("kind", "allocated").register(meterRegistry);
+        Gauge.builder("offheap_item_store_bytes", this, store -> store.liveBytes())
+                .tag("service", "java-service").tag("kind", "live").register(meterRegistry);
+        Gauge.builder("offheap_item_store_entries", this, store -> store.size())
+                .tag("service", "java-service").register(meterRegistry);
+    }
+
+    /**
+     * Returns a token for {@link #putIfNotInvalidated}; take it before loading the value.
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    public EncodedItem get(long id) {
+        if (id <= 0) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            int slot = find(id);
+            if (slot < 0) {
+                misses.increment();
+                return null;
+            }
+            long location = locations[slot];
+            ByteBuffer buffer = slabs[(int) (location >>> 32)].buffer;
+            int offset = (int) location;
+            byte[] json = new byte[buffer.getInt(offset + LENGTH_OFFSET)];
+            buffer.get(offset + HEADER_BYTES, json);
+            hits.increment();
+            return new EncodedItem(buffer.getLong(offset + VERSION_OFFSET), json);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores the value unless an invalidation happened after {@code stamp} was taken, so a
+     * reader cannot re-insert a value that a concurrent write has already superseded.
+     */
+    public void putIfNotInvalidated(long id, EncodedItem item, long stamp) {
+        int entryBytes = HEADER_BYTES + item.json().length;
+        if (id <= 0 || entryBytes > slabSize) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (invalidations.get() != stamp) {
+                return;
+            }
+            removeEntry(id);
+            if (current < 0 || slabs[current].position + entryBytes > slabSize) {
+                current = nextSlab(entryBytes);
+            }
+
+            Slab slab = slabs[current];
+            int offset = slab.position;
+            slab.buffer.putLong(offset, id);
+            slab.buffer.putLong(offset + VERSION_OFFSET, item.version());
+            slab.buffer.putInt(offset + LENGTH_OFFSET, item.json().length);
+            slab.buffer.put(offset + HEADER_BYTES, item.json());
+            slab.position += entryBytes;
+            slab.liveBytes += entryBytes;
+            slab.liveEntries++;
+            insert(id, ((long) current << 32) | offset);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        if (id <= 0) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        lock.writeLock().lock();
+        try {
+            removeEntry(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        invalidations.incrementAndGet();
+        lock.writeLock().lock();
+        try {
+            keys = new long[INITIAL_CAPACITY];
+            locations = new long[INITIAL_CAPACITY];
+            size = 0;
+            occupied = 0;
+            for (Slab slab : slabs) {
+                slab.position = 0;
+                slab.liveBytes = 0;
+                slab.liveEntries = 0;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        remove(event.id());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemsInvalidated(ItemsInvalidatedEvent event) {
+        if (event.isAll()) {
+            clear();
+        } else {
+            event.itemIds().forEach(this::remove);
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long allocatedBytes() {
+        long allocated = 0;
+        for (Slab slab : slabs) {
+            allocated += slab.buffer != null ? slab.buffer.capacity() : 0;
+        }
+        return allocated;
+    }
+
+    private long liveBytes() {
+        lock.readLock().lock();
+        try {
+            long live = 0;
+            for (Slab slab : slabs) {
+                live += slab.liveBytes;
+            }
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int nextSlab(int entryBytes) {
+        long sequence = current >= 0 ? slabs[current].sequence + 1 : 0;
+
+        int target = -1;
+        for (int i = 0; i < slabs.length && target < 0; i++) {
+            if (slabs[i].buffer == null || slabs[i].liveEntries == 0) {
+                target = i;
+            }
+        }
+        if (target >= 0) {
+            Slab slab = slabs[target];
+            if (slab.buffer == null) {
+                slab.buffer = ByteBuffer.allocateDirect(slabSize);
+            }
+            slab.position = 0;
+            slab.liveBytes = 0;
+            slab.sequence = sequence;
+            return target;
+        }
+
+        int mostDead = 0;
+        int oldest = 0;
+        for (int i = 1; i < slabs.length; i++) {
+            if (slabs[i].position - slabs[i].liveBytes > slabs[mostDead].position - slabs[mostDead].liveBytes) {
+                mostDead = i;
+            }
+            if (slabs[i].sequence < slabs[oldest].sequence) {
+                oldest = i;
+            }
+        }
+        Slab candidate = slabs[mostDead];
+        if (candidate.position - candidate.liveBytes >= slabSize / 2
+                && candidate.liveBytes + entryBytes <= slabSize) {
+            compact(mostDead);
+            candidate.sequence = sequence;
+            return mostDead;
+        }
+
+        evict(oldest);
+        slabs[oldest].sequence = sequence;
+        return oldest;
+    }
+
+    private void compact(int index) {
+        Slab slab = slabs[index];
+        ByteBuffer buffer = slab.buffer;
+        int read = 0;
+        int write = 0;
+        while (read < slab.position) {
+            long id = buffer.getLong(read);
+            int entryBytes = HEADER_BYTES + buffer.getInt(read + LENGTH_OFFSET);
+            int slot = find(id);
+            if (slot >= 0 && locations[slot] == (((long) index << 32) | read)) {
+                if (write != read) {
+                    buffer.put(write, buffer, read, entryBytes);
+                    locations[slot] = ((long) index << 32) | write;
+                }
+                write += entryBytes;
+            }
+            read += entryBytes;
+        }
+        logger.debug("Compacted off-heap slab {} from {} to {} bytes", index, slab.position, write);
+        slab.position = write;
+    }
+
+    private void evict(int index) {
+        Slab slab = slabs[index];
+        ByteBuffer buffer = slab.buffer;
+        int read = 0;
+        int evicted = 0;
+        while (read < slab.position) {
+            long id = buffer.getLong(read);
+            int slot = find(id);
+            if (slot >= 0 && locations[slot] == (((long) index << 32) | read)) {
+                keys[slot] = TOMBSTONE;
+                size--;
+                evicted++;
+            }
+            read += HEADER_BYTES + buffer.getInt(read + LENGTH_OFFSET);
+        }
+        evictions.increment(evicted);
+        slab.position = 0;
+        slab.liveBytes = 0;
+        slab.liveEntries = 0;
+    }
+
+    private void removeEntry(long id) {
+        int slot = find(id);
+        if (slot < 0) {
+            return;
+        }
+        long location = locations[slot];
+        Slab slab = slabs[(int) (location >>> 32)];
+        slab.liveBytes -= HEADER_BYTES + slab.buffer.getInt((int) location + LENGTH_OFFSET);
+        slab.liveEntries--;
+        keys[slot] = TOMBSTONE;
+        size--;
+    }
+
+    private int find(long id) {
+        int mask = keys.length - 1;
+        for (int slot = mix(id) & mask; ; slot = (slot + 1) & mask) {
+            long key = keys[slot];
+            if (key == id) {
+                return slot;
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    private void insert(long id, long location) {
+        if ((occupied + 1) * 2 > keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != TOMBSTONE) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            occupied++;
+        }
+        keys[slot] = id;
+        locations[slot] = location;
+        size++;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldLocations = locations;
+        int capacity = size * 4 > oldKeys.length ? oldKeys.length * 2 : oldKeys.length;
+        keys = new long[capacity];
+        locations = new long[capacity];
+        size = 0;
+        occupied = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY && oldKeys[i] != TOMBSTONE) {
+                insert(oldKeys[i], oldLocations[i]);
+            }
+        }
+    }
+
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
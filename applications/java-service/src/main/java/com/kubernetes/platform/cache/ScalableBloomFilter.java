@@ -0,0 +1,108 @@
+package com.kubernetes.platform.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over {@code long} keys that grows by chaining stages, each twice the capacity
+ * of the previous one with half its error rate, so the compound false-positive probability
+ * stays below the configured target however many keys are added. Reads are lock-free;
+ * {@link #add} must be externally synchronized.
+ */
+class ScalableBloomFilter {
+
+    private static final double ERROR_TIGHTENING = 0.5;
+
+    private static class Stage {
+        final AtomicLongArray bits;
+        final long bitCount;
+        final int hashes;
+        final long capacity;
+        long size;
+
+        Stage(long capacity, double falsePositiveRate) {
+            long bitCount = Math.max(64, (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+            this.bits = new AtomicLongArray(Math.toIntExact((bitCount + 63) / 64));
+            this.bitCount = bits.length() * 64L;
+            this.hashes = Math.max(1, (int) Math.round((double) this.bitCount / capacity * Math.log(2)));
+            this.capacity = capacity;
+        }
+
+        boolean mightContain(long hash1, long hash2) {
+            for (int i = 0; i < hashes; i++) {
+                long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void add(long hash1, long hash2) {
+            for (int i = 0; i < hashes; i++) {
+                long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+                int word = (int) (bit >>> 6);
+                bits.set(word, bits.get(word) | (1L << bit));
+            }
+            size++;
+        }
+
+        double falsePositiveProbability() {
+            return Math.pow(1 - Math.exp(-(double) hashes * size / bitCount), hashes);
+        }
+    }
+
+    private volatile Stage[] stages;
+    private final double falsePositiveRate;
+
+    ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.stages = new Stage[]{new Stage(Math.max(1, initialCapacity), falsePositiveRate * (1 - ERROR_TIGHTENING))};
+    }
+
+    boolean mightContain(long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1) | 1;
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void add(long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1) | 1;
+        Stage[] current = stages;
+        for (Stage stage : current) {
+            if (stage.mightContain(hash1, hash2)) {
+                return;
+            }
+        }
+
+        Stage last = current[current.length - 1];
+        if (last.size >= last.capacity) {
+            Stage[] grown = new Stage[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            last = new Stage(last.capacity * 2,
+                    falsePositiveRate * (1 - ERROR_TIGHTENING) * Math.pow(ERROR_TIGHTENING, current.length));
+            grown[current.length] = last;
+            stages = grown;
+        }
+        last.add(hash1, hash2);
+    }
+
+    double falsePositiveProbability() {
+        double none = 1;
+        for (Stage stage : stages) {
+            none *= 1 - stage.falsePositiveProbability();
+        }
+        return 1 - none;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
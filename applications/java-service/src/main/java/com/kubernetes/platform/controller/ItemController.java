@@ -1,43 +1,110 @@
 package com.kubernetes.platform.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kubernetes.platform.cache.EncodedItem;
 import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.model.ItemImportSummary;
+import com.kubernetes.platform.model.ItemStats;
 import com.kubernetes.platform.model.ItemStatus;
+import com.kubernetes.platform.search.ItemSuggestionIndex;
+import com.kubernetes.platform.search.Suggestion;
+import com.kubernetes.platform.service.GroupCommitItemWriter;
+import com.kubernetes.platform.service.ItemCursor;
+import com.kubernetes.platform.service.ItemExporter;
+import com.kubernetes.platform.service.ItemFileFormat;
+import com.kubernetes.platform.service.ItemImporter;
 import com.kubernetes.platform.service.ItemService;
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = HttpHeaders.ETAG)
 public class ItemController {
 
     private static final Logger logger = LoggerFactory.getLogger(ItemController.class);
 
+    // Only columns backed by an index on the items table may be used for sorting
+    private static final List<String> SORTABLE_FIELDS = List.of("id", "name", "category", "status", "createdAt", "updatedAt");
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final int UNCONDITIONAL_WRITE_ATTEMPTS = 3;
+    private static final List<String> BULK_UPDATABLE_FIELDS = List.of("status", "category");
+    private static final List<String> PATCHABLE_FIELDS = List.of("name", "description", "category", "status");
+
     private final ItemService itemService;
+    private final GroupCommitItemWriter groupCommitItemWriter;
+    private final ItemImporter itemImporter;
+    private final ItemExporter itemExporter;
     private final MeterRegistry meterRegistry;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final DistributionSummary batchSizes;
+    private final int maxBatchSize;
+    private final Duration exportTimeout;
 
     @Autowired
-    public ItemController(ItemService itemService, MeterRegistry meterRegistry) {
+    public ItemController(ItemService itemService, GroupCommitItemWriter groupCommitItemWriter,
+                          ItemImporter itemImporter, ItemExporter itemExporter,
+                          MeterRegistry meterRegistry, Validator validator, ObjectMapper objectMapper,
+                          @Value("${app.items.batch.max-size:500}") int maxBatchSize,
+                          @Value("${app.items.export.timeout:30m}") Duration exportTimeout) {
         this.itemService = itemService;
+        this.groupCommitItemWriter = groupCommitItemWriter;
+        this.itemImporter = itemImporter;
+        this.itemExporter = itemExporter;
         this.meterRegistry = meterRegistry;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
+        this.exportTimeout = exportTimeout;
+        this.batchSizes = DistributionSummary.builder("item_batch_size")
+                .description("Number of items per bulk create request")
+                .tag("service", "java-service")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) maxBatchSize)
+                .register(meterRegistry);
     }
 
     @GetMapping("/status")
@@ -65,34 +132,64 @@ public class ItemController {
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "full") String view) {
         
         meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "/items").increment();
-        
+
+        if (cursor != null) {
+            if (!"full".equalsIgnoreCase(view)) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "Invalid request parameter", "message", "cursor pagination only supports view=full"));
+            }
+            return getItemsAfterCursor(cursor, size, status, category);
+        }
+
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid sort field", "message", "sortBy must be one of " + SORTABLE_FIELDS));
+        }
+        if (page < 0 || size < 1) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid page request", "message", "page must be >= 0 and size must be >= 1"));
+        }
+
         try {
-            List<Item> items;
-            
-            if (status != null && category != null) {
-                ItemStatus itemStatus = ItemStatus.valueOf(status.toUpperCase());
-                items = itemService.getItemsByStatus(itemStatus)
-                        .stream()
-                        .filter(item -> item.getCategory().equalsIgnoreCase(category))
-                        .toList();
+            Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
+            if (!"id".equals(sortBy)) {
+                sort = sort.and(Sort.by("id"));
+            }
+            Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), sort);
+
+            Page<?> items;
+            ItemStatus itemStatus = status != null ? ItemStatus.valueOf(status.toUpperCase()) : null;
+
+            if (isSummaryView(view)) {
+                items = itemService.getItemSummaries(itemStatus, category, pageable);
+            } else if (status != null && category != null) {
+                items = itemService.getItemsByStatusAndCategory(itemStatus, category, pageable);
             } else if (status != null) {
-                ItemStatus itemStatus = ItemStatus.valueOf(status.toUpperCase());
-                items = itemService.getItemsByStatus(itemStatus);
+                items = itemService.getItemsByStatus(itemStatus, pageable);
             } else if (category != null) {
-                items = itemService.getItemsByCategory(category);
+                items = itemService.getItemsByCategory(category, pageable);
             } else {
-                items = itemService.getAllItems();
+                items = itemService.getItems(pageable);
             }
-            
+
             Map<String, Object> response = new HashMap<>();
-            response.put("items", items);
-            response.put("total", items.size());
+            response.put("items", items.getContent());
+            response.put("total", items.getTotalElements());
+            response.put("page", items.getNumber());
+            response.put("size", items.getSize());
+            response.put("totalPages", items.getTotalPages());
+            response.put("hasNext", items.hasNext());
             response.put("timestamp", LocalDateTime.now());
-            
+
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid request parameter", "message", e.getMessage()));
         } catch (Exception e) {
             meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "/items").increment();
             logger.error("Error fetching items", e);
@@ -101,15 +198,51 @@ public class ItemController {
         }
     }
 
+    private ResponseEntity<Map<String, Object>> getItemsAfterCursor(String cursor, int size, String status, String category) {
+        if (status != null || category != null) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid request parameter", "message", "cursor cannot be combined with status or category filters"));
+        }
+        if (size < 1) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid page request", "message", "size must be >= 1"));
+        }
+
+        try {
+            ItemCursor position = cursor.isEmpty() ? null : ItemCursor.decode(cursor);
+            Slice<Item> items = itemService.getItemsAfterCursor(position, Math.min(size, MAX_PAGE_SIZE));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("items", items.getContent());
+            response.put("size", items.getSize());
+            response.put("hasNext", items.hasNext());
+            response.put("nextCursor", items.hasNext() ? ItemCursor.of(items.getContent().get(items.getNumberOfElements() - 1)).encode() : null);
+            response.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid cursor", "message", e.getMessage()));
+        } catch (Exception e) {
+            meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "/items").increment();
+            logger.error("Error fetching items after cursor: {}", cursor, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch items", "message", e.getMessage()));
+        }
+    }
+
     @GetMapping("/items/{id}")
     @Timed(value = "api_request_duration", description = "Time taken to fetch item by ID")
     public ResponseEntity<?> getItemById(@PathVariable Long id) {
         meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "/items/{id}").increment();
         
         try {
-            Optional<Item> item = itemService.getItemById(id);
+            Optional<EncodedItem> item = itemService.getItemJsonById(id);
             if (item.isPresent()) {
-                return ResponseEntity.ok(item.get());
+                return ResponseEntity.ok()
+                        .eTag(eTag(item.get().version()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(item.get().json());
             } else {
                 return ResponseEntity.notFound().build();
             }
@@ -127,14 +260,14 @@ public class ItemController {
         meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "POST /items").increment();
         
         try {
-            Item createdItem = itemService.createItem(item);
+            Item createdItem = groupCommitItemWriter.create(item);
             
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Item created successfully");
             response.put("item", createdItem);
             response.put("timestamp", LocalDateTime.now());
             
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return ResponseEntity.status(HttpStatus.CREATED).eTag(eTag(createdItem.getVersion())).body(response);
         } catch (Exception e) {
             meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "POST /items").increment();
             logger.error("Error creating item", e);
@@ -143,20 +276,117 @@ public class ItemController {
         }
     }
 
+    @PostMapping("/items/batch")
+    @Timed(value = "api_request_duration", description = "Time taken to create items in bulk")
+    public ResponseEntity<?> createItems(@RequestBody List<Item> items) {
+        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "POST /items/batch").increment();
+
+        if (items.isEmpty() || items.size() > maxBatchSize) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid batch size", "message", "Batch must contain between 1 and " + maxBatchSize + " items"));
+        }
+        batchSizes.record(items.size());
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        boolean valid = true;
+        for (int i = 0; i < items.size(); i++) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("index", i);
+            Map<String, String> errors = new LinkedHashMap<>();
+            if (items.get(i) == null) {
+                errors.put("item", "Item is required");
+            } else {
+                validator.validate(items.get(i)).forEach(violation ->
+                        errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            }
+            result.put("status", errors.isEmpty() ? "valid" : "invalid");
+            if (!errors.isEmpty()) {
+                result.put("errors", errors);
+                valid = false;
+            }
+            results.add(result);
+        }
+        if (!valid) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Validation failed", "message", "No items were created", "results", results));
+        }
+
+        try {
+            List<Item> createdItems = itemService.createItems(items);
+            for (int i = 0; i < createdItems.size(); i++) {
+                results.get(i).put("status", "created");
+                results.get(i).put("id", createdItems.get(i).getId());
+                results.get(i).put("item", createdItems.get(i));
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Items created successfully");
+            response.put("count", createdItems.size());
+            response.put("results", results);
+            response.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (Exception e) {
+            meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "POST /items/batch").increment();
+            logger.error("Error creating {} items", items.size(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to create items", "message", e.getMessage()));
+        }
+    }
+
+    // The body is parsed as it arrives; rows already committed stay committed if the input turns out to be malformed
+    @PostMapping(value = "/items/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    @Timed(value = "api_request_duration", description = "Time taken to import items")
+    public ResponseEntity<?> importItems(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "POST /items/import").increment();
+
+        ItemFileFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(ItemFileFormat.CSV.mediaType())
+                ? ItemFileFormat.CSV : ItemFileFormat.NDJSON;
+        try {
+            ItemImportSummary summary = itemImporter.importItems(body, format);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", summary.complete() ? "Import completed" : "Import stopped at malformed input");
+            response.put("summary", summary);
+            response.put("timestamp", LocalDateTime.now());
+
+            return summary.complete() ? ResponseEntity.ok(response) : ResponseEntity.badRequest().body(response);
+        } catch (IOException e) {
+            logger.warn("Import aborted while reading the request body", e);
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Failed to read import", "message", e.getMessage()));
+        } catch (Exception e) {
+            meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "POST /items/import").increment();
+            logger.error("Error importing items", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to import items", "message", e.getMessage()));
+        }
+    }
+
     @PutMapping("/items/{id}")
     @Timed(value = "api_request_duration", description = "Time taken to update item")
-    public ResponseEntity<?> updateItem(@PathVariable Long id, @Valid @RequestBody Item itemDetails) {
+    public ResponseEntity<?> updateItem(@PathVariable Long id, @Valid @RequestBody Item itemDetails,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "PUT /items/{id}").increment();
-        
+
+        Set<Long> expectedVersions;
         try {
-            Item updatedItem = itemService.updateItem(id, itemDetails);
+            expectedVersions = parseIfMatch(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid If-Match header", "message", e.getMessage()));
+        }
+
+        try {
+            Item updatedItem = retryUnconditional(expectedVersions, () -> itemService.updateItem(id, itemDetails, expectedVersions));
             
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Item updated successfully");
             response.put("item", updatedItem);
             response.put("timestamp", LocalDateTime.now());
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(eTag(updatedItem.getVersion())).body(response);
+        } catch (OptimisticLockingFailureException e) {
+            return versionConflict("PUT /items/{id}", id, expectedVersions);
         } catch (RuntimeException e) {
             if (e.getMessage().contains("not found")) {
                 return ResponseEntity.notFound().build();
@@ -168,19 +398,124 @@ public class ItemController {
         }
     }
 
+    @PatchMapping(value = "/items/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @Timed(value = "api_request_duration", description = "Time taken to patch item")
+    public ResponseEntity<?> patchItem(@PathVariable Long id, @RequestBody Map<String, Object> patch,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "PATCH /items/{id}").increment();
+
+        if (patch.isEmpty() || !PATCHABLE_FIELDS.containsAll(patch.keySet())) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid patch", "message", "Body must set one or more of " + PATCHABLE_FIELDS));
+        }
+
+        Set<Long> expectedVersions;
+        try {
+            expectedVersions = parseIfMatch(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid If-Match header", "message", e.getMessage()));
+        }
+
+        try {
+            Map<String, Object> changes = new HashMap<>();
+            if (patch.containsKey("name")) {
+                changes.put("name", parseName(patch.get("name")));
+            }
+            if (patch.containsKey("description")) {
+                changes.put("description", parseDescription(patch.get("description")));
+            }
+            if (patch.containsKey("category")) {
+                changes.put("category", parseCategory(patch.get("category")));
+            }
+            if (patch.containsKey("status")) {
+                changes.put("status", parseStatus(patch.get("status")));
+            }
+            Item patched = itemService.patchItem(id, changes, expectedVersions);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Item updated successfully");
+            response.put("id", id);
+            response.put("updated", changes.keySet());
+            response.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.ok().eTag(eTag(patched.getVersion())).body(response);
+        } catch (OptimisticLockingFailureException e) {
+            return versionConflict("PATCH /items/{id}", id, expectedVersions);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid patch", "message", e.getMessage()));
+        } catch (RuntimeException e) {
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.notFound().build();
+            }
+            meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "PATCH /items/{id}").increment();
+            logger.error("Error patching item with ID: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to update item", "message", e.getMessage()));
+        }
+    }
+
+    // Write-behind: the change is queued and committed asynchronously, superseded by any later status for the item
+    @PutMapping("/items/{id}/status")
+    @Timed(value = "api_request_duration", description = "Time taken to accept an asynchronous status update")
+    public ResponseEntity<?> updateItemStatusAsync(@PathVariable Long id, @RequestBody Map<String, Object> body) {
+        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "PUT /items/{id}/status").increment();
+
+        try {
+            ItemStatus status = parseStatus(body.get("status"));
+            if (!itemService.updateStatusAsync(id, status)) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(Map.of("error", "Status update queue is full", "message", "Retry later or use PATCH /items/{id}"));
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Status update accepted");
+            response.put("id", id);
+            response.put("status", status);
+            response.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.accepted().body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid status", "message", e.getMessage()));
+        } catch (RuntimeException e) {
+            if (e.getMessage().contains("not found")) {
+                return ResponseEntity.notFound().build();
+            }
+            meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "PUT /items/{id}/status").increment();
+            logger.error("Error accepting status update for item with ID: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to accept status update", "message", e.getMessage()));
+        }
+    }
+
     @DeleteMapping("/items/{id}")
     @Timed(value = "api_request_duration", description = "Time taken to delete item")
-    public ResponseEntity<?> deleteItem(@PathVariable Long id) {
+    public ResponseEntity<?> deleteItem(@PathVariable Long id,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "DELETE /items/{id}").increment();
-        
+
+        Set<Long> expectedVersions;
         try {
-            itemService.deleteItem(id);
+            expectedVersions = parseIfMatch(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid If-Match header", "message", e.getMessage()));
+        }
+
+        try {
+            retryUnconditional(expectedVersions, () -> {
+                itemService.deleteItem(id, expectedVersions);
+                return null;
+            });
             
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Item deleted successfully");
             response.put("timestamp", LocalDateTime.now());
             
             return ResponseEntity.ok(response);
+        } catch (OptimisticLockingFailureException e) {
+            return versionConflict("DELETE /items/{id}", id, expectedVersions);
         } catch (RuntimeException e) {
             if (e.getMessage().contains("not found")) {
                 return ResponseEntity.notFound().build();
@@ -192,19 +527,173 @@ public class ItemController {
         }
     }
 
-    @GetMapping("/items/categories")
-    public ResponseEntity<Map<String, Object>> getCategories() {
-        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "/items/categories").increment();
+    @PatchMapping("/items")
+    @Timed(value = "api_request_duration", description = "Time taken to update items by filter")
+    public ResponseEntity<?> updateItems(@RequestParam(required = false) String status,
+                                         @RequestParam(required = false) String category,
+                                         @RequestBody Map<String, Object> changes) {
+        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "PATCH /items").increment();
+
+        if (status == null && category == null) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Missing filter", "message", "status or category is required"));
+        }
+        if (changes.isEmpty() || !BULK_UPDATABLE_FIELDS.containsAll(changes.keySet())) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid changes", "message", "Body must set one or more of " + BULK_UPDATABLE_FIELDS));
+        }
 
         try {
-            List<String> categories = itemService.getAllCategories();
+            Map<String, Object> validated = new HashMap<>();
+            if (changes.containsKey("status")) {
+                validated.put("status", parseStatus(changes.get("status")));
+            }
+            if (changes.containsKey("category")) {
+                validated.put("category", parseCategory(changes.get("category")));
+            }
+            int updated = itemService.updateItems(status != null ? ItemStatus.valueOf(status.toUpperCase()) : null,
+                    category, validated);
 
             Map<String, Object> response = new HashMap<>();
-            response.put("categories", categories);
-            response.put("count", categories.size());
+            response.put("message", "Items updated successfully");
+            response.put("updated", updated);
             response.put("timestamp", LocalDateTime.now());
 
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid request parameter", "message", e.getMessage()));
+        } catch (Exception e) {
+            meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "PATCH /items").increment();
+            logger.error("Error updating items with status: {}, category: {}", status, category, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to update items", "message", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/items")
+    @Timed(value = "api_request_duration", description = "Time taken to delete items by filter")
+    public ResponseEntity<?> deleteItems(@RequestParam(required = false) String status,
+                                         @RequestParam(required = false) String category) {
+        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "DELETE /items").increment();
+
+        if (status == null && category == null) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Missing filter", "message", "status or category is required"));
+        }
+
+        try {
+            int deleted = itemService.deleteItems(status != null ? ItemStatus.valueOf(status.toUpperCase()) : null, category);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Items deleted successfully");
+            response.put("deleted", deleted);
+            response.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid request parameter", "message", e.getMessage()));
+        } catch (Exception e) {
+            meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "DELETE /items").increment();
+            logger.error("Error deleting items with status: {}, category: {}", status, category, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to delete items", "message", e.getMessage()));
+        }
+    }
+
+    // Rows are written as they are read; the content type and encoding are committed before the first row
+    @GetMapping("/items/export")
+    @Timed(value = "api_request_duration", description = "Time taken to export items")
+    public WebAsyncTask<ResponseEntity<?>> exportItems(@RequestParam(defaultValue = "ndjson") String format,
+                                                       @RequestParam(required = false) String status,
+                                                       @RequestParam(required = false) String category,
+                                                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                       HttpServletResponse response) {
+        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "/items/export").increment();
+
+        ItemFileFormat fileFormat;
+        ItemStatus itemStatus;
+        try {
+            fileFormat = ItemFileFormat.valueOf(format.toUpperCase());
+            itemStatus = status != null ? ItemStatus.valueOf(status.toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> error = Map.of("error", "Invalid request parameter", "message", e.getMessage());
+            return new WebAsyncTask<>(() -> ResponseEntity.badRequest().body(error));
+        }
+
+        boolean gzip = acceptsGzip(acceptEncoding);
+        // Writes straight to the servlet response on an export thread so that the long timeout applies
+        // to this request only; returning no entity tells Spring MVC the response is already complete
+        Callable<ResponseEntity<?>> export = () -> {
+            response.setContentType(fileFormat.mediaType().toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=items." + fileFormat.name().toLowerCase());
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            try (OutputStream output = response.getOutputStream();
+                 OutputStream target = gzip ? new GZIPOutputStream(output, 8192) : output) {
+                itemExporter.exportItems(target, fileFormat, itemStatus, category);
+            } catch (IOException | RuntimeException e) {
+                meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "/items/export").increment();
+                logger.error("Error exporting items with status: {}, category: {}", status, category, e);
+                throw e;
+            }
+            return null;
+        };
+        return new WebAsyncTask<>(exportTimeout.toMillis(), itemExporter.taskExecutor(), export);
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleExportRejected(TaskRejectedException e) {
+        meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "/items/export").increment();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of("error", "Too many concurrent exports", "message", "Retry the export later"));
+    }
+
+    // Honours q-values, so "gzip;q=0" opts out; an explicit gzip entry takes precedence over "*"
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    @GetMapping("/items/categories")
+    public ResponseEntity<?> getCategories() {
+        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "/items/categories").increment();
+
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(itemService.getAllCategoriesJson());
         } catch (Exception e) {
             meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "/items/categories").increment();
             logger.error("Error fetching categories", e);
@@ -214,19 +703,38 @@ public class ItemController {
     }
 
     @GetMapping("/items/search")
-    public ResponseEntity<Map<String, Object>> searchItems(@RequestParam String keyword) {
+    public ResponseEntity<Map<String, Object>> searchItems(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "full") String view) {
         meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "/items/search").increment();
 
+        if (page < 0 || size < 1) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid page request", "message", "page must be >= 0 and size must be >= 1"));
+        }
+
         try {
-            List<Item> items = itemService.searchItems(keyword);
+            Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+            Page<?> items = isSummaryView(view)
+                    ? itemService.searchItemSummaries(keyword, pageable)
+                    : itemService.searchItems(keyword, pageable);
 
             Map<String, Object> response = new HashMap<>();
-            response.put("items", items);
-            response.put("total", items.size());
+            response.put("items", items.getContent());
+            response.put("total", items.getTotalElements());
+            response.put("page", items.getNumber());
+            response.put("size", items.getSize());
+            response.put("totalPages", items.getTotalPages());
+            response.put("hasNext", items.hasNext());
             response.put("keyword", keyword);
             response.put("timestamp", LocalDateTime.now());
 
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid request parameter", "message", e.getMessage()));
         } catch (Exception e) {
             meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "/items/search").increment();
             logger.error("Error searching items with keyword: {}", keyword, e);
@@ -235,18 +743,83 @@ public class ItemController {
         }
     }
 
+    @GetMapping("/items/search/name")
+    public ResponseEntity<Map<String, Object>> searchItemsByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "/items/search/name").increment();
+
+        if (page < 0 || size < 1) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid page request", "message", "page must be >= 0 and size must be >= 1"));
+        }
+
+        try {
+            Page<Item> items = itemService.searchItemsByName(name, PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE)));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("items", items.getContent());
+            response.put("total", items.getTotalElements());
+            response.put("page", items.getNumber());
+            response.put("size", items.getSize());
+            response.put("totalPages", items.getTotalPages());
+            response.put("hasNext", items.hasNext());
+            response.put("name", name);
+            response.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "/items/search/name").increment();
+            logger.error("Error searching items by name: {}", name, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to search items", "message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/items/suggest")
+    public ResponseEntity<Map<String, Object>> suggestItems(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "/items/suggest").increment();
+
+        if (limit < 1) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid limit", "message", "limit must be >= 1"));
+        }
+
+        try {
+            List<Suggestion> suggestions = itemService.suggest(prefix, Math.min(limit, ItemSuggestionIndex.MAX_SUGGESTIONS));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("suggestions", suggestions);
+            response.put("count", suggestions.size());
+            response.put("prefix", prefix);
+            response.put("timestamp", LocalDateTime.now());
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            meterRegistry.counter("api_errors_total", "service", "java-service", "endpoint", "/items/suggest").increment();
+            logger.error("Error suggesting items for prefix: {}", prefix, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to suggest items", "message", e.getMessage()));
+        }
+    }
+
     @GetMapping("/items/stats")
     public ResponseEntity<Map<String, Object>> getItemStats() {
         meterRegistry.counter("api_requests_total", "service", "java-service", "endpoint", "/items/stats").increment();
 
         try {
+            ItemStats itemStats = itemService.getItemStats();
+
             Map<String, Object> stats = new HashMap<>();
-            stats.put("total", itemService.getAllItems().size());
-            stats.put("active", itemService.getItemCountByStatus(ItemStatus.ACTIVE));
-            stats.put("inactive", itemService.getItemCountByStatus(ItemStatus.INACTIVE));
-            stats.put("pending", itemService.getItemCountByStatus(ItemStatus.PENDING));
-            stats.put("archived", itemService.getItemCountByStatus(ItemStatus.ARCHIVED));
-            stats.put("categories", itemService.getAllCategories().size());
+            stats.put("total", itemStats.total());
+            stats.put("active", itemStats.count(ItemStatus.ACTIVE));
+            stats.put("inactive", itemStats.count(ItemStatus.INACTIVE));
+            stats.put("pending", itemStats.count(ItemStatus.PENDING));
+            stats.put("archived", itemStats.count(ItemStatus.ARCHIVED));
+            stats.put("categories", itemStats.categories());
             stats.put("timestamp", LocalDateTime.now());
 
             return ResponseEntity.ok(stats);
@@ -257,4 +830,103 @@ public class ItemController {
                     .body(Map.of("error", "Failed to fetch statistics", "message", e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    // Writes without If-Match keep last-writer-wins semantics by re-running when they lose a version race
+    private static <T> T retryUnconditional(Set<Long> expectedVersions, Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (expectedVersions != null || attempt >= UNCONDITIONAL_WRITE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 412 when the client's If-Match no longer matches; 409 when an unconditional write kept losing races
+    private ResponseEntity<?> versionConflict(String endpoint, Long id, Set<Long> expectedVersions) {
+        meterRegistry.counter("item_version_conflicts_total", "service", "java-service", "endpoint", endpoint,
+                "conditional", String.valueOf(expectedVersions != null)).increment();
+        logger.info("Version conflict on item with ID: {}, expected version: {}", id, expectedVersions);
+
+        HttpStatus status = expectedVersions != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status)
+                .body(Map.of("error", "Item was modified concurrently", "message", "Fetch the item again and retry"));
+    }
+
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // RFC 9110 If-Match: "*" or a list of entity tags, compared strongly. Returns null when there is no condition,
+    // otherwise the versions that satisfy it; weak and non-numeric tags can never match an item, so an If-Match made
+    // only of those fails with 412. Versions are exposed as strong ETags
+    private static Set<Long> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        boolean parsed = false;
+        int i = 0;
+        while (i < ifMatch.length()) {
+            char c = ifMatch.charAt(i);
+            if (c == ',' || c == ' ' || c == '\t') {
+                i++;
+                continue;
+            }
+            boolean weak = ifMatch.startsWith("W/", i);
+            int open = weak ? i + 2 : i;
+            int close = open < ifMatch.length() && ifMatch.charAt(open) == '"' ? ifMatch.indexOf('"', open + 1) : -1;
+            if (close < 0) {
+                throw new IllegalArgumentException("If-Match must be \"*\" or a list of entity tags such as \"3\"");
+            }
+            String tag = ifMatch.substring(open + 1, close);
+            if (!weak && tag.matches("\\d{1,18}")) {
+                versions.add(Long.parseLong(tag));
+            }
+            parsed = true;
+            i = close + 1;
+        }
+        if (!parsed) {
+            throw new IllegalArgumentException("If-Match must be \"*\" or a list of entity tags such as \"3\"");
+        }
+        return versions;
+    }
+
+    // summary returns ItemSummary projections (id, name, category, status) loaded without Item entities
+    private static boolean isSummaryView(String view) {
+        if (!"summary".equalsIgnoreCase(view) && !"full".equalsIgnoreCase(view)) {
+            throw new IllegalArgumentException("view must be summary or full");
+        }
+        return "summary".equalsIgnoreCase(view);
+    }
+
+    private static ItemStatus parseStatus(Object value) {
+        if (!(value instanceof String status)) {
+            throw new IllegalArgumentException("status must be one of " + List.of(ItemStatus.values()));
+        }
+        return ItemStatus.valueOf(status.toUpperCase());
+    }
+
+    private static String parseName(Object value) {
+        if (!(value instanceof String name) || name.isBlank() || name.length() > 100) {
+            throw new IllegalArgumentException("name must be a non-blank string of at most 100 characters");
+        }
+        return name;
+    }
+
+    private static String parseDescription(Object value) {
+        if (value != null && (!(value instanceof String description) || description.length() > 500)) {
+            throw new IllegalArgumentException("description must be null or a string of at most 500 characters");
+        }
+        return (String) value;
+    }
+
+    private static String parseCategory(Object value) {
+        if (!(value instanceof String category) || category.isBlank() || category.length() > 50) {
+            throw new IllegalArgumentException("category must be a non-blank string of at most 50 characters");
+        }
+        return category;
+    }
+}
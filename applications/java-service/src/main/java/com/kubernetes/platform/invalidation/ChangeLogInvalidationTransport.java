@@ -0,0 +1,166 @@
+package com.kubernetes.platform.invalidation;
+
+import com.kubernetes.platform.model.ItemChange;
+import com.kubernetes.platform.repository.ItemChangeRepository;
+import com.kubernetes.platform.service.ItemsInvalidatedEvent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation transport over the shared database: every write appends a row to
+ * {@code item_change_log} in the same transaction, stamped with the database clock, and each
+ * instance polls for rows written by other instances. A row becomes visible only when its
+ * transaction commits, which can be well after its timestamp and after rows with higher IDs,
+ * so every poll re-reads all rows stamped within {@code app.invalidation.overlap-window} of
+ * the previous poll and skips the ones it has already delivered. The window must exceed the
+ * longest write transaction; a change that takes longer to commit is missed.
+ */
+@Component
+@ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "changelog", matchIfMissing = true)
+public class ChangeLogInvalidationTransport implements ItemInvalidationTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogInvalidationTransport.class);
+
+    // IDENTITY keys keep Hibernate from batching these inserts; plain JDBC batching has no such limit
+    private static final String INSERT_SQL =
+            "INSERT INTO item_change_log (item_id, operation, origin, created_at) VALUES (?, ?, ?, LOCALTIMESTAMP)";
+    private static final String NOW_SQL = "SELECT LOCALTIMESTAMP";
+
+    private final ItemChangeRepository itemChangeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final String origin = UUID.randomUUID().toString();
+    private final int batchSize;
+    private final Duration overlapWindow;
+    private final Duration retention;
+    private final List<Consumer<ItemsInvalidatedEvent>> subscribers = new ArrayList<>();
+    // Delivered change IDs with their timestamps, kept while they can still be re-read
+    private final Map<Long, LocalDateTime> delivered = new HashMap<>();
+    private LocalDateTime lastPolledAt;
+    private volatile long deliveredThrough = System.nanoTime();
+
+    @Autowired
+    public ChangeLogInvalidationTransport(ItemChangeRepository itemChangeRepository, JdbcTemplate jdbcTemplate,
+                                          @Value("${app.invalidation.batch-size:1000}") int batchSize,
+                                          @Value("${app.invalidation.overlap-window:30s}") Duration overlapWindow,
+                                          @Value("${app.invalidation.retention:10m}") Duration retention) {
+        this.itemChangeRepository = itemChangeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.overlapWindow = overlapWindow;
+        this.retention = retention;
+    }
+
+    @PostConstruct
+    void initialize() {
+        // Local state is loaded from the database on startup, so earlier changes need not be replayed
+        lastPolledAt = databaseTime();
+        logger.info("Change log invalidation transport {} starting at {}", origin, lastPolledAt);
+    }
+
+    @Override
+    public void publish(Collection<Long> itemIds, ItemChange.Operation operation) {
+        List<Long> ids = itemIds == null ? Collections.singletonList(null) : List.copyOf(itemIds);
+        jdbcTemplate.batchUpdate(INSERT_SQL, ids, ids.size(), (statement, itemId) -> {
+            statement.setObject(1, itemId);
+            statement.setString(2, operation.name());
+            statement.setString(3, origin);
+        });
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<ItemsInvalidatedEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        // Rows committed before the query starts are visible to it
+        long pollStartedAt = System.nanoTime();
+        LocalDateTime polledAt = databaseTime();
+        LocalDateTime since = lastPolledAt.minus(overlapWindow);
+
+        Set<Long> itemIds = new HashSet<>();
+        boolean all = false;
+        LocalDateTime afterCreatedAt = since;
+        long afterId = 0;
+        List<ItemChange> changes;
+        do {
+            changes = itemChangeRepository.findAfter(afterCreatedAt, afterId, PageRequest.of(0, batchSize));
+            for (ItemChange change : changes) {
+                if (delivered.putIfAbsent(change.getId(), change.getCreatedAt()) != null
+                        || origin.equals(change.getOrigin())) {
+                    continue;
+                }
+                if (change.getItemId() == null) {
+                    all = true;
+                } else {
+                    itemIds.add(change.getItemId());
+                }
+            }
+            if (!changes.isEmpty()) {
+                ItemChange last = changes.get(changes.size() - 1);
+                afterCreatedAt = last.getCreatedAt();
+                afterId = last.getId();
+            }
+        } while (changes.size() == batchSize);
+
+        // The next poll starts its window here; anything stamped earlier cannot be read again
+        LocalDateTime nextSince = polledAt.minus(overlapWindow);
+        delivered.values().removeIf(createdAt -> createdAt.isBefore(nextSince));
+        lastPolledAt = polledAt;
+
+        if (all) {
+            notifySubscribers(ItemsInvalidatedEvent.all(true));
+        } else if (!itemIds.isEmpty()) {
+            notifySubscribers(ItemsInvalidatedEvent.of(itemIds, true));
+        }
+        deliveredThrough = pollStartedAt;
+    }
+
+    @Override
+    public long deliveredThrough() {
+        return deliveredThrough;
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.prune-interval-ms:60000}")
+    @Transactional
+    public void prune() {
+        int pruned = itemChangeRepository.deleteOlderThan(databaseTime().minus(retention));
+        if (pruned > 0) {
+            logger.debug("Pruned {} item change log entries", pruned);
+        }
+    }
+
+    // Timestamps are compared against the database clock, not this instance's, so clock skew between instances
+    // does not eat into the overlap window
+    private LocalDateTime databaseTime() {
+        return jdbcTemplate.queryForObject(NOW_SQL, LocalDateTime.class);
+    }
+
+    private void notifySubscribers(ItemsInvalidatedEvent event) {
+        logger.debug("Received remote invalidation: {}", event);
+        subscribers.forEach(subscriber -> subscriber.accept(event));
+    }
+}
@@ -0,0 +1,100 @@
+package com.kubernetes.platform.invalidation;
+
+import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.model.ItemChange;
+import com.kubernetes.platform.service.ItemChangedEvent;
+import com.kubernetes.platform.service.ItemsInvalidatedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bridges local item writes and the configured {@link ItemInvalidationTransport}. Local
+ * changes are published in the writing transaction; remote ones evict the affected entries
+ * from the second-level cache and are re-published locally as {@link ItemsInvalidatedEvent}s
+ * for the in-memory indexes and counters.
+ */
+@Component
+public class ItemInvalidationBus {
+
+    private final ItemInvalidationTransport transport;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public ItemInvalidationBus(ObjectProvider<ItemInvalidationTransport> transport,
+                               EntityManagerFactory entityManagerFactory,
+                               ApplicationEventPublisher eventPublisher) {
+        this.transport = transport.getIfAvailable();
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+        if (this.transport != null) {
+            this.transport.subscribe(this::onRemoteInvalidation);
+        }
+    }
+
+    // Collected per transaction and published once before commit, so bulk writes append their change rows in one batch
+    @EventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (transport == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        ItemChange.Operation operation = event.before() == null ? ItemChange.Operation.CREATED
+                : event.after() == null ? ItemChange.Operation.DELETED
+                : ItemChange.Operation.UPDATED;
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.itemIds.computeIfAbsent(operation, key -> new ArrayList<>()).add(event.id());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onItemsInvalidated(ItemsInvalidatedEvent event) {
+        if (transport == null || event.remote()) {
+            return;
+        }
+        transport.publish(event.itemIds(), ItemChange.Operation.INVALIDATED);
+    }
+
+    private void onRemoteInvalidation(ItemsInvalidatedEvent event) {
+        if (event.isAll()) {
+            entityManagerFactory.getCache().evict(Item.class);
+        } else {
+            event.itemIds().forEach(id -> entityManagerFactory.getCache().evict(Item.class, id));
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+        eventPublisher.publishEvent(event);
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        final Map<ItemChange.Operation, List<Long>> itemIds = new EnumMap<>(ItemChange.Operation.class);
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            itemIds.forEach((operation, ids) -> transport.publish(ids, operation));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(ItemInvalidationBus.this);
+        }
+    }
+}
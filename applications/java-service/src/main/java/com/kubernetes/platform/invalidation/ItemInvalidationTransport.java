@@ -0,0 +1,28 @@
+package com.kubernetes.platform.invalidation;
+
+import com.kubernetes.platform.model.ItemChange;
+import com.kubernetes.platform.service.ItemsInvalidatedEvent;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Carries item invalidations between application instances. {@link #publish} is called
+ * inside the transaction of the write; implementations deliver changes made by other
+ * instances to the subscriber as remote {@link ItemsInvalidatedEvent}s.
+ */
+public interface ItemInvalidationTransport {
+
+    /**
+     * @param itemIds affected items, or {@code null} for all items
+     */
+    void publish(Collection<Long> itemIds, ItemChange.Operation operation);
+
+    void subscribe(Consumer<ItemsInvalidatedEvent> subscriber);
+
+    /**
+     * Returns a {@link System#nanoTime()} reading such that every change other instances
+     * committed before it has been delivered to the subscribers.
+     */
+    long deliveredThrough();
+}
@@ -1,21 +1,40 @@
 package com.kubernetes.platform.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
-@Table(name = "items")
+@Table(name = "items", indexes = {
+        @Index(name = "idx_items_name", columnList = "name"),
+        @Index(name = "idx_items_category", columnList = "category"),
+        @Index(name = "idx_items_status", columnList = "status"),
+        @Index(name = "idx_items_category_key", columnList = "category_key"),
+        @Index(name = "idx_items_status_category_key", columnList = "status, category_key"),
+        @Index(name = "idx_items_created_at", columnList = "created_at"),
+        @Index(name = "idx_items_updated_at_id", columnList = "updated_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+// UPDATEs list only the columns that changed, so a PATCH of one field does not rewrite the others
+@DynamicUpdate
 public class Item {
 
+    // Pooled sequence rather than IDENTITY so Hibernate can batch inserts; ids are handed out 50 at a time
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -32,6 +51,10 @@ public class Item {
     @Column(nullable = false, length = 50)
     private String category;
 
+    // Lower-cased copy of category so case-insensitive filters can use an index
+    @Column(name = "category_key", nullable = false, length = 50)
+    private String categoryKey;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ItemStatus status = ItemStatus.ACTIVE;
@@ -44,13 +67,23 @@ public class Item {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock; exposed as the ETag and never taken from request bodies
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(nullable = false)
+    private Long version;
+
     // Constructors
     public Item() {}
 
     public Item(String name, String description, String category) {
         this.name = name;
         this.description = description;
-        this.category = category;
+        setCategory(category);
+    }
+
+    public static String normalizeCategory(String category) {
+        return category == null ? null : category.toLowerCase(Locale.ROOT);
     }
 
     // Getters and Setters
@@ -84,6 +117,7 @@ public class Item {
 
     public void setCategory(String category) {
         this.category = category;
+        this.categoryKey = normalizeCategory(category);
     }
 
     public ItemStatus getStatus() {
@@ -110,6 +144,14 @@ public class Item {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Item{" +
@@ -120,6 +162,7 @@ public class Item {
                 ", status=" + status +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
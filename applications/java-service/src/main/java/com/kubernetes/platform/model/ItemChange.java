@@ -0,0 +1,63 @@
+package com.kubernetes.platform.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "item_change_log", indexes = {
+        @Index(name = "idx_item_change_log_created_at_id", columnList = "created_at, id")
+})
+public class ItemChange {
+
+    public enum Operation {
+        CREATED,
+        UPDATED,
+        DELETED,
+        INVALIDATED
+    }
+
+    // Allocated at insert, so IDs do not follow commit order; pollers track rows by timestamp instead
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // null when the change affects every item
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Operation operation;
+
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    // Database clock at the start of the writing transaction
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Rows are inserted through JDBC by ChangeLogInvalidationTransport; JPA only reads them
+    protected ItemChange() {}
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.kubernetes.platform.model;
+
+import java.util.List;
+import java.util.Map;
+
+// complete is false when the input could not be parsed past the last reported row
+public record ItemImportSummary(long rows, long created, long rejected, boolean complete,
+                                List<Map<String, Object>> errors, boolean errorsTruncated) {
+}
@@ -0,0 +1,10 @@
+package com.kubernetes.platform.model;
+
+import java.util.Map;
+
+public record ItemStats(long total, Map<ItemStatus, Long> countsByStatus, long categories) {
+
+    public long count(ItemStatus status) {
+        return countsByStatus.getOrDefault(status, 0L);
+    }
+}
@@ -0,0 +1,8 @@
+package com.kubernetes.platform.repository;
+
+public interface CategoryCount {
+
+    String getCategory();
+
+    long getCount();
+}
@@ -0,0 +1,24 @@
+package com.kubernetes.platform.repository;
+
+import com.kubernetes.platform.model.ItemChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ItemChangeRepository extends JpaRepository<ItemChange, Long> {
+
+    // Keyset page over (createdAt, id); the leading range predicate lets the planner seek on idx_item_change_log_created_at_id
+    @Query("SELECT c FROM ItemChange c WHERE c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id) ORDER BY c.createdAt, c.id")
+    List<ItemChange> findAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ItemChange c WHERE c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
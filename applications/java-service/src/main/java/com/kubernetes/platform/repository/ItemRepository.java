@@ -2,32 +2,80 @@ package com.kubernetes.platform.repository;
 
 import com.kubernetes.platform.model.Item;
 import com.kubernetes.platform.model.ItemStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
 
-    List<Item> findByStatus(ItemStatus status);
+    Page<Item> findByStatus(ItemStatus status, Pageable pageable);
 
-    List<Item> findByCategory(String category);
+    // Category filters match the lower-cased categoryKey; callers pass Item.normalizeCategory(category)
+    Page<Item> findByCategoryKey(String categoryKey, Pageable pageable);
 
-    List<Item> findByStatusAndCategory(ItemStatus status, String category);
+    Page<Item> findByStatusAndCategoryKey(ItemStatus status, String categoryKey, Pageable pageable);
 
-    Page<Item> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    // Dynamic projections of the listings above, e.g. ItemSummary for list views that need no entity
+    <T> Page<T> findAllBy(Pageable pageable, Class<T> type);
 
+    <T> Page<T> findByStatus(ItemStatus status, Pageable pageable, Class<T> type);
+
+    <T> Page<T> findByCategoryKey(String categoryKey, Pageable pageable, Class<T> type);
+
+    <T> Page<T> findByStatusAndCategoryKey(ItemStatus status, String categoryKey, Pageable pageable, Class<T> type);
+
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+
+    @Query("SELECT i FROM Item i ORDER BY i.updatedAt, i.id")
+    List<Item> findFirstByUpdatedAt(Pageable pageable);
+
+    // Equivalent to (updatedAt, id) > (:updatedAt, :id); the leading range predicate lets the planner seek on idx_items_updated_at_id
+    @Query("SELECT i FROM Item i WHERE i.updatedAt >= :updatedAt AND (i.updatedAt > :updatedAt OR i.id > :id) ORDER BY i.updatedAt, i.id")
+    List<Item> findAfterByUpdatedAt(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id, Pageable pageable);
+
+    List<Item> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT i.id FROM Item i WHERE i.id > :id ORDER BY i.id")
+    List<Long> findIdsGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT i.id FROM Item i WHERE i.id IN :ids AND (:status IS NULL OR i.status = :status) AND (:categoryKey IS NULL OR i.categoryKey = :categoryKey)")
+    List<Long> findIdsInByFilter(@Param("ids") Collection<Long> ids, @Param("status") ItemStatus status,
+                                 @Param("categoryKey") String categoryKey);
+
+    @Modifying
+    @Query("DELETE FROM Item i WHERE (:status IS NULL OR i.status = :status) AND (:categoryKey IS NULL OR i.categoryKey = :categoryKey)")
+    int deleteByFilter(@Param("status") ItemStatus status, @Param("categoryKey") String categoryKey);
+
+    // Rows are fetched from the cursor in chunks and must be consumed inside a transaction; entities are loaded
+    // without dirty-checking snapshots and bypass the second-level cache
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT i FROM Item i WHERE (:status IS NULL OR i.status = :status) AND (:categoryKey IS NULL OR i.categoryKey = :categoryKey) ORDER BY i.id")
+    Stream<Item> streamByFilter(@Param("status") ItemStatus status, @Param("categoryKey") String categoryKey);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT DISTINCT i.category FROM Item i ORDER BY i.category")
     List<String> findDistinctCategories();
 
-    @Query("SELECT COUNT(i) FROM Item i WHERE i.status = :status")
-    long countByStatus(@Param("status") ItemStatus status);
+    @Query("SELECT i.status AS status, COUNT(i) AS count FROM Item i GROUP BY i.status")
+    List<StatusCount> countGroupedByStatus();
 
-    @Query("SELECT i FROM Item i WHERE i.name LIKE %:keyword% OR i.description LIKE %:keyword%")
-    List<Item> searchByKeyword(@Param("keyword") String keyword);
+    @Query("SELECT i.category AS category, COUNT(i) AS count FROM Item i GROUP BY i.category")
+    List<CategoryCount> countGroupedByCategory();
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.kubernetes.platform.repository;
+
+import com.kubernetes.platform.model.ItemStatus;
+
+import java.util.Map;
+
+public interface ItemRepositoryCustom {
+
+    // Keys in changes are Item attribute names; a null status or categoryKey filter matches any value
+    int updateByFilter(ItemStatus status, String categoryKey, Map<String, Object> changes);
+}
@@ -0,0 +1,53 @@
+package com.kubernetes.platform.repository;
+
+import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.model.ItemStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based updates that touch only the given columns. Built with the Criteria API because
+ * the set of columns differs from call to call. Bulk statements bypass entity listeners and
+ * versioning, so {@code updatedAt}, {@code categoryKey} and {@code version} are maintained here.
+ */
+class ItemRepositoryImpl implements ItemRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateByFilter(ItemStatus status, String categoryKey, Map<String, Object> changes) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Item> update = builder.createCriteriaUpdate(Item.class);
+        Root<Item> item = update.from(Item.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null) {
+            predicates.add(builder.equal(item.get("status"), status));
+        }
+        if (categoryKey != null) {
+            predicates.add(builder.equal(item.get("categoryKey"), categoryKey));
+        }
+        update.where(predicates.toArray(Predicate[]::new));
+        return execute(update, item, changes);
+    }
+
+    private int execute(CriteriaUpdate<Item> update, Root<Item> item, Map<String, Object> changes) {
+        changes.forEach((attribute, value) -> update.set(item.get(attribute), value));
+        if (changes.containsKey("category")) {
+            update.set(item.get("categoryKey"), Item.normalizeCategory((String) changes.get("category")));
+        }
+        update.set(item.get("updatedAt"), LocalDateTime.now());
+        update.set(item.<Long>get("version"), entityManager.getCriteriaBuilder().sum(item.get("version"), 1L));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
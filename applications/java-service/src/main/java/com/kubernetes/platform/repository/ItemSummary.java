@@ -0,0 +1,17 @@
+package com.kubernetes.platform.repository;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.kubernetes.platform.model.ItemStatus;
+
+// Closed projection: queries returning it select only these columns and never build Item entities
+@JsonPropertyOrder({"id", "name", "category", "status"})
+public interface ItemSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getCategory();
+
+    ItemStatus getStatus();
+}
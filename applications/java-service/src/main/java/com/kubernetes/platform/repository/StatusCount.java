@@ -0,0 +1,10 @@
+package com.kubernetes.platform.repository;
+
+import com.kubernetes.platform.model.ItemStatus;
+
+public interface StatusCount {
+
+    ItemStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,143 @@
+package com.kubernetes.platform.search;
+
+import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.repository.ItemRepository;
+import com.kubernetes.platform.service.ItemChangedEvent;
+import com.kubernetes.platform.service.ItemsInvalidatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Base class for in-memory indexes over items. The index state is loaded from the database
+ * once the application is ready and kept current from committed {@link ItemChangedEvent}s;
+ * items named in an {@link ItemsInvalidatedEvent} are reloaded. A rebuild scans the table
+ * without blocking readers and replays any changes that arrived while it was running
+ * before swapping the new state in.
+ *
+ * @param <S> mutable index state, only accessed under {@link #lock}
+ */
+public abstract class AbstractItemIndex<S> {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ItemRepository itemRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private S state;
+    private List<Change> pendingReplay;
+
+    private record Change(Long id, Item after) {
+    }
+
+    protected AbstractItemIndex(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+        this.state = createState();
+    }
+
+    protected abstract S createState();
+
+    protected abstract void add(S state, Item item);
+
+    protected abstract void remove(S state, Long id);
+
+    protected <R> R read(Function<S, R> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        apply(new Change(event.id(), event.after()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemsInvalidated(ItemsInvalidatedEvent event) {
+        if (event.isAll()) {
+            rebuild();
+            return;
+        }
+        Map<Long, Item> items = new HashMap<>();
+        for (Item item : itemRepository.findAllById(event.itemIds())) {
+            items.put(item.getId(), item);
+        }
+        for (Long id : event.itemIds()) {
+            apply(new Change(id, items.get(id)));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingReplay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        S rebuilt = createState();
+        int count = 0;
+        boolean completed = false;
+        try {
+            List<Item> batch = itemRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            while (!batch.isEmpty()) {
+                for (Item item : batch) {
+                    add(rebuilt, item);
+                }
+                count += batch.size();
+                Long lastId = batch.get(batch.size() - 1).getId();
+                batch = itemRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            }
+            completed = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (completed) {
+                    pendingReplay.forEach(change -> apply(rebuilt, change));
+                    state = rebuilt;
+                }
+                pendingReplay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        logger.info("Rebuilt {} from {} items in {} ms", getClass().getSimpleName(), count,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            apply(state, change);
+            if (pendingReplay != null) {
+                pendingReplay.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(S target, Change change) {
+        remove(target, change.id());
+        if (change.after() != null) {
+            add(target, change.after());
+        }
+    }
+}
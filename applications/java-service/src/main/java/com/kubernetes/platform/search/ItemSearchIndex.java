@@ -0,0 +1,226 @@
+package com.kubernetes.platform.search;
+
+import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.repository.ItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over item names and descriptions: each token maps to a sorted posting
+ * list of item IDs. Multi-term queries are AND-ed by intersecting
+ * posting lists, starting from the shortest, and the matches are ranked with BM25 using
+ * per-item term frequencies. Name tokens count {@value #NAME_BOOST} times so that matches
+ * in the name outrank matches only in the description.
+ */
+@Component
+public class ItemSearchIndex extends AbstractItemIndex<ItemSearchIndex.State> {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final long[] NO_IDS = new long[0];
+    private static final int NAME_BOOST = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    static class State {
+        final Map<String, Postings> postings = new HashMap<>();
+        final Map<Long, Document> documents = new HashMap<>();
+        long totalLength;
+    }
+
+    // Sorted ids with spare capacity; new items get ascending ids, so adding is usually an amortized O(1) append
+    static final class Postings {
+
+        private long[] ids = new long[2];
+        private int size;
+
+        void add(long id) {
+            int index = size > 0 && ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        // Returns false once the list is empty
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+            return size > 0;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+    private record Document(String[] terms, int[] frequencies, int length) {
+
+        int frequency(String term) {
+            for (int i = 0; i < terms.length; i++) {
+                if (terms[i].equals(term)) {
+                    return frequencies[i];
+                }
+            }
+            return 0;
+        }
+    }
+
+    @Autowired
+    public ItemSearchIndex(ItemRepository itemRepository) {
+        super(itemRepository);
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    public SearchHits search(String query, long offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return new SearchHits(0, NO_IDS);
+        }
+        return read(state -> {
+            Postings[] lists = new Postings[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                Postings postings = state.postings.get(term);
+                if (postings == null) {
+                    return new SearchHits(0, NO_IDS);
+                }
+                lists[i++] = postings;
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+            long[] matches = lists[0].toArray();
+            for (int j = 1; j < lists.length && matches.length > 0; j++) {
+                matches = intersect(matches, lists[j].ids, lists[j].size);
+            }
+            if (offset >= matches.length) {
+                return new SearchHits(matches.length, NO_IDS);
+            }
+
+            double[] scores = new double[matches.length];
+            Integer[] order = new Integer[matches.length];
+            double averageLength = (double) state.totalLength / state.documents.size();
+            for (int m = 0; m < matches.length; m++) {
+                scores[m] = score(state, terms, state.documents.get(matches[m]), averageLength);
+                order[m] = m;
+            }
+            long[] ranked = matches;
+            Arrays.sort(order, (a, b) -> scores[a] != scores[b] ? Double.compare(scores[b], scores[a]) : Long.compare(ranked[a], ranked[b]));
+
+            int end = (int) Math.min(matches.length, offset + limit);
+            long[] ids = new long[end - (int) offset];
+            for (int m = (int) offset; m < end; m++) {
+                ids[m - (int) offset] = matches[order[m]];
+            }
+            return new SearchHits(matches.length, ids);
+        });
+    }
+
+    @Override
+    protected State createState() {
+        return new State();
+    }
+
+    @Override
+    protected void add(State state, Item item) {
+        Document document = document(item);
+        long id = item.getId();
+        for (String term : document.terms()) {
+            state.postings.computeIfAbsent(term, key -> new Postings()).add(id);
+        }
+        state.documents.put(id, document);
+        state.totalLength += document.length();
+    }
+
+    @Override
+    protected void remove(State state, Long id) {
+        Document document = state.documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            state.postings.computeIfPresent(term, (key, postings) -> postings.remove(id) ? postings : null);
+        }
+        state.totalLength -= document.length();
+    }
+
+    private static double score(State state, Set<String> terms, Document document, double averageLength) {
+        int documentCount = state.documents.size();
+        double lengthNorm = K1 * (1 - B + B * document.length() / averageLength);
+        double score = 0;
+        for (String term : terms) {
+            int documentFrequency = state.postings.get(term).size;
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            int frequency = document.frequency(term);
+            score += idf * frequency * (K1 + 1) / (frequency + lengthNorm);
+        }
+        return score;
+    }
+
+    private static Document document(Item item) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String token : tokenize(item.getName())) {
+            frequencies.merge(token, NAME_BOOST, Integer::sum);
+        }
+        for (String token : tokenize(item.getDescription())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        String[] terms = new String[frequencies.size()];
+        int[] counts = new int[frequencies.size()];
+        int length = 0;
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms[i] = entry.getKey();
+            counts[i] = entry.getValue();
+            length += entry.getValue();
+            i++;
+        }
+        return new Document(terms, counts, length);
+    }
+
+    private static long[] intersect(long[] a, long[] b, int bLength) {
+        long[] result = new long[Math.min(a.length, bLength)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < bLength) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+}
@@ -0,0 +1,267 @@
+package com.kubernetes.platform.search;
+
+import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.repository.ItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Prefix trie over item names and categories for autocomplete. Each distinct name or category
+ * is one entry weighted by the most recent {@code updatedAt} of the items carrying it. Every
+ * node caches its top {@value #MAX_SUGGESTIONS} entries by weight; writes keep the caches on
+ * their path current and removals invalidate them so they are recomputed on the next lookup.
+ * An entry's weight is not lowered when its most recent item goes away; rebuilds reset it.
+ */
+@Component
+public class ItemSuggestionIndex extends AbstractItemIndex<ItemSuggestionIndex.State> {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final Comparator<Entry> BY_WEIGHT = Comparator.comparingLong((Entry entry) -> entry.weight).reversed()
+            .thenComparing(entry -> entry.suggestion.value());
+
+    static class State {
+        final Node root = new Node();
+        final Map<Long, String[]> itemKeys = new HashMap<>();
+    }
+
+    private static class Node {
+        char[] labels = new char[0];
+        Node[] children = new Node[0];
+        Entry[] entries = new Entry[0];
+        volatile Entry[] top = new Entry[0];
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node child = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = child;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return labels.length == 0 && entries.length == 0;
+        }
+    }
+
+    private static class Entry {
+        final Suggestion suggestion;
+        long weight;
+        int references;
+
+        Entry(Suggestion suggestion) {
+            this.suggestion = suggestion;
+        }
+    }
+
+    @Autowired
+    public ItemSuggestionIndex(ItemRepository itemRepository) {
+        super(itemRepository);
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        return read(state -> {
+            Node node = state.root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            Entry[] top = node.top;
+            if (top == null) {
+                top = collectTop(node);
+                node.top = top;
+            }
+            return Arrays.stream(top).limit(limit).map(entry -> entry.suggestion).toList();
+        });
+    }
+
+    @Override
+    protected State createState() {
+        return new State();
+    }
+
+    @Override
+    protected void add(State state, Item item) {
+        long weight = item.getUpdatedAt() != null ? item.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+        String nameKey = normalize(item.getName());
+        String categoryKey = normalize(item.getCategory());
+        insert(state.root, nameKey, new Suggestion(item.getName(), Suggestion.Type.NAME), weight);
+        insert(state.root, categoryKey, new Suggestion(item.getCategory(), Suggestion.Type.CATEGORY), weight);
+        state.itemKeys.put(item.getId(), new String[]{nameKey, categoryKey});
+    }
+
+    @Override
+    protected void remove(State state, Long id) {
+        String[] keys = state.itemKeys.remove(id);
+        if (keys == null) {
+            return;
+        }
+        delete(state.root, keys[0], Suggestion.Type.NAME);
+        delete(state.root, keys[1], Suggestion.Type.CATEGORY);
+    }
+
+    private static void insert(Node root, String key, Suggestion suggestion, long weight) {
+        if (key.isEmpty()) {
+            return;
+        }
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.addChild(key.charAt(i));
+            path.add(node);
+        }
+
+        Entry entry = null;
+        for (Entry existing : node.entries) {
+            if (existing.suggestion.type() == suggestion.type()) {
+                entry = existing;
+            }
+        }
+        if (entry == null) {
+            entry = new Entry(suggestion);
+            node.entries = append(node.entries, entry);
+        }
+        entry.references++;
+        entry.weight = Math.max(entry.weight, weight);
+
+        for (Node onPath : path) {
+            Entry[] top = onPath.top;
+            if (top != null) {
+                onPath.top = offer(top, entry);
+            }
+        }
+    }
+
+    private static void delete(Node root, String key, Suggestion.Type type) {
+        if (key.isEmpty()) {
+            return;
+        }
+        Deque<Node> path = new ArrayDeque<>(key.length() + 1);
+        Node node = root;
+        path.push(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.child(key.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path.push(node);
+        }
+
+        Entry entry = null;
+        for (Entry existing : node.entries) {
+            if (existing.suggestion.type() == type) {
+                entry = existing;
+            }
+        }
+        if (entry == null || --entry.references > 0) {
+            return;
+        }
+        Entry removed = entry;
+        node.entries = Arrays.stream(node.entries).filter(existing -> existing != removed).toArray(Entry[]::new);
+        for (Node onPath : path) {
+            Entry[] top = onPath.top;
+            if (top != null && Arrays.asList(top).contains(removed)) {
+                onPath.top = null;
+            }
+        }
+
+        for (int i = key.length() - 1; i >= 0; i--) {
+            Node child = path.pop();
+            if (!child.isEmpty()) {
+                break;
+            }
+            path.peek().removeChild(key.charAt(i));
+        }
+    }
+
+    private static Entry[] offer(Entry[] top, Entry entry) {
+        List<Entry> candidates = new ArrayList<>(top.length + 1);
+        for (Entry existing : top) {
+            if (existing != entry) {
+                candidates.add(existing);
+            }
+        }
+        candidates.add(entry);
+        candidates.sort(BY_WEIGHT);
+        return candidates.stream().limit(MAX_SUGGESTIONS).toArray(Entry[]::new);
+    }
+
+    private static Entry[] collectTop(Node node) {
+        PriorityQueue<Entry> best = new PriorityQueue<>(MAX_SUGGESTIONS + 1, BY_WEIGHT.reversed());
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty()) {
+            Node current = pending.pop();
+            for (Entry entry : current.entries) {
+                best.offer(entry);
+                if (best.size() > MAX_SUGGESTIONS) {
+                    best.poll();
+                }
+            }
+            for (Node child : current.children) {
+                pending.push(child);
+            }
+        }
+        Entry[] top = best.toArray(Entry[]::new);
+        Arrays.sort(top, BY_WEIGHT);
+        return top;
+    }
+
+    private static Entry[] append(Entry[] entries, Entry entry) {
+        Entry[] result = Arrays.copyOf(entries, entries.length + 1);
+        result[entries.length] = entry;
+        return result;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
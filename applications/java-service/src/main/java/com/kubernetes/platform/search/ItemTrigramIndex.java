@@ -0,0 +1,130 @@
+package com.kubernetes.platform.search;
+
+import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.repository.ItemRepository;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index over item names for case-insensitive substring search. Each trigram maps to
+ * a compressed 64-bit bitmap of item IDs; the bitmaps of all trigrams in the query are intersected
+ * to find candidates, which are then verified against the indexed name. Queries shorter than
+ * a trigram are answered by scanning the indexed names.
+ */
+@Component
+public class ItemTrigramIndex extends AbstractItemIndex<ItemTrigramIndex.State> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    static class State {
+        final Map<String, Roaring64Bitmap> postings = new HashMap<>();
+        final Map<Long, String> names = new HashMap<>();
+    }
+
+    @Autowired
+    public ItemTrigramIndex(ItemRepository itemRepository) {
+        super(itemRepository);
+    }
+
+    public SearchHits search(String query, long offset, int limit) {
+        String needle = normalize(query);
+        if (needle.isEmpty()) {
+            return new SearchHits(0, new long[0]);
+        }
+        return read(state -> {
+            Roaring64Bitmap matches;
+            if (needle.length() < GRAM_LENGTH) {
+                matches = new Roaring64Bitmap();
+                state.names.forEach((id, name) -> {
+                    if (name.contains(needle)) {
+                        matches.addLong(id);
+                    }
+                });
+            } else {
+                List<Roaring64Bitmap> bitmaps = new ArrayList<>();
+                for (String gram : trigrams(needle)) {
+                    Roaring64Bitmap bitmap = state.postings.get(gram);
+                    if (bitmap == null) {
+                        return new SearchHits(0, new long[0]);
+                    }
+                    bitmaps.add(bitmap);
+                }
+                // Intersect starting from the rarest trigram so the working set stays small
+                bitmaps.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+                matches = bitmaps.get(0).clone();
+                for (int i = 1; i < bitmaps.size() && !matches.isEmpty(); i++) {
+                    matches.and(bitmaps.get(i));
+                }
+                LongIterator candidates = matches.clone().getLongIterator();
+                while (candidates.hasNext()) {
+                    long id = candidates.next();
+                    if (!state.names.get(id).contains(needle)) {
+                        matches.removeLong(id);
+                    }
+                }
+            }
+
+            long total = matches.getLongCardinality();
+            long start = Math.min(offset, total);
+            long end = Math.min(total, offset + limit);
+            long[] ids = new long[(int) (end - start)];
+            for (long i = start; i < end; i++) {
+                ids[(int) (i - start)] = matches.select(i);
+            }
+            return new SearchHits(total, ids);
+        });
+    }
+
+    @Override
+    protected State createState() {
+        return new State();
+    }
+
+    @Override
+    protected void add(State state, Item item) {
+        long id = item.getId();
+        String name = normalize(item.getName());
+        for (String gram : trigrams(name)) {
+            state.postings.computeIfAbsent(gram, key -> new Roaring64Bitmap()).addLong(id);
+        }
+        state.names.put(id, name);
+    }
+
+    @Override
+    protected void remove(State state, Long id) {
+        String name = state.names.remove(id);
+        if (name == null) {
+            return;
+        }
+        for (String gram : trigrams(name)) {
+            Roaring64Bitmap bitmap = state.postings.get(gram);
+            bitmap.removeLong(id);
+            if (bitmap.isEmpty()) {
+                state.postings.remove(gram);
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,8 @@
+package com.kubernetes.platform.search;
+
+/**
+ * One page of ranked search results: the IDs on the requested page, best match first, and
+ * the total number of matching items.
+ */
+public record SearchHits(long totalHits, long[] ids) {
+}
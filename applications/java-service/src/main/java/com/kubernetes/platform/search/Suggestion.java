@@ -0,0 +1,9 @@
+package com.kubernetes.platform.search;
+
+public record Suggestion(String value, Type type) {
+
+    public enum Type {
+        NAME,
+        CATEGORY
+    }
+}
@@ -0,0 +1,97 @@
+package com.kubernetes.platform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kubernetes.platform.repository.ItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Immutable snapshot of the distinct item categories together with its serialized
+ * {@code /items/categories} response body. The snapshot is dropped whenever a category
+ * appears or disappears and rebuilt once by the next reader while concurrent readers wait for it.
+ */
+@Component
+public class CategoryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoryCache.class);
+
+    private final ItemRepository itemRepository;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public record Snapshot(List<String> categories, byte[] json, long generation) {
+    }
+
+    @Autowired
+    public CategoryCache(ItemRepository itemRepository, ObjectMapper objectMapper) {
+        this.itemRepository = itemRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public Snapshot get() {
+        Snapshot current = snapshot.get();
+        if (current != null && current.generation() == generation.get()) {
+            return current;
+        }
+        return reload();
+    }
+
+    // Callers that miss after a category change queue here instead of each running the query; all but the first
+    // find the snapshot it published. A snapshot loaded before a later change carries the old generation and is
+    // replaced by the next caller
+    private synchronized Snapshot reload() {
+        long currentGeneration = generation.get();
+        Snapshot current = snapshot.get();
+        if (current != null && current.generation() == currentGeneration) {
+            return current;
+        }
+        Snapshot loaded = load(currentGeneration);
+        snapshot.set(loaded);
+        return loaded;
+    }
+
+    // The cached body stops short of the response timestamp, which is spliced in before its closing brace on every
+    // call rather than frozen at the last rebuild
+    public byte[] responseJson() {
+        byte[] body = get().json();
+        try {
+            byte[] timestamp = objectMapper.writeValueAsBytes(Map.of("timestamp", LocalDateTime.now()));
+            byte[] response = Arrays.copyOf(body, body.length + timestamp.length - 1);
+            response[body.length - 1] = ',';
+            System.arraycopy(timestamp, 1, response, body.length, timestamp.length - 1);
+            return response;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize categories", e);
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private Snapshot load(long loadedGeneration) {
+        logger.debug("Rebuilding category snapshot");
+        List<String> categories = List.copyOf(itemRepository.findDistinctCategories());
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("categories", categories);
+        response.put("count", categories.size());
+        try {
+            return new Snapshot(categories, objectMapper.writeValueAsBytes(response), loadedGeneration);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize categories", e);
+        }
+    }
+}
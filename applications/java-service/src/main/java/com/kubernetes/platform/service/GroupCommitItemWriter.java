@@ -0,0 +1,187 @@
+package com.kubernetes.platform.service;
+
+import com.kubernetes.platform.model.Item;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group commit for single-item creates. Concurrent callers are queued until
+ * {@code app.items.group-commit.max-batch} have gathered or the oldest has waited
+ * {@code app.items.group-commit.max-wait}, and a single writer thread then inserts the whole
+ * group through {@link ItemService#createItems} in one transaction. If that transaction
+ * fails, each item is retried on its own so that every caller gets its own result or error.
+ * Callers wait at most {@code app.items.group-commit.timeout}, and creates arriving while the
+ * writer is stopped go straight to {@link ItemService#createItem}.
+ * This lives outside {@link ItemService} because waiting inside its transactional methods
+ * would hold a connection for the whole wait.
+ */
+@Component
+public class GroupCommitItemWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitItemWriter.class);
+
+    private final ItemService itemService;
+    private final boolean enabled;
+    private final long maxWaitNanos;
+    private final int maxBatch;
+    private final long timeoutNanos;
+    private final BlockingQueue<PendingCreate> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSizes;
+    private final Timer queueWait;
+    private volatile boolean running;
+    private Thread writer;
+
+    private record PendingCreate(Item item, CompletableFuture<Item> result, long enqueuedAt) {
+    }
+
+    @Autowired
+    public GroupCommitItemWriter(ItemService itemService, MeterRegistry meterRegistry,
+                                 @Value("${app.items.group-commit.enabled:false}") boolean enabled,
+                                 @Value("${app.items.group-commit.max-wait:500us}") Duration maxWait,
+                                 @Value("${app.items.group-commit.max-batch:50}") int maxBatch,
+                                 @Value("${app.items.group-commit.timeout:5s}") Duration timeout) {
+        this.itemService = itemService;
+        this.enabled = enabled;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxBatch = maxBatch;
+        this.timeoutNanos = timeout.toNanos();
+
+        this.batchSizes = DistributionSummary.builder("item_group_commit_batch_size")
+                .description("Creates committed together per group-commit transaction")
+                .tag("service", "java-service")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) maxBatch)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("item_group_commit_wait")
+                .description("Time a create waited for its group to be flushed")
+                .tag("service", "java-service")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::run, "item-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+        logger.info("Group commit enabled for item creates (max wait {} us, max batch {})", maxWaitNanos / 1000, maxBatch);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        List<PendingCreate> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pending -> pending.result().completeExceptionally(new IllegalStateException("Shutting down")));
+    }
+
+    public Item create(Item item) {
+        if (!enabled || !running) {
+            return itemService.createItem(item);
+        }
+
+        PendingCreate pending = new PendingCreate(item, new CompletableFuture<>(), System.nanoTime());
+        queue.add(pending);
+        // stop() may have drained the queue between the check above and the add
+        if (!running && queue.remove(pending)) {
+            return itemService.createItem(item);
+        }
+        try {
+            return pending.result().get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Group commit failed", e.getCause());
+        } catch (TimeoutException e) {
+            // Still queued means it will never be written; otherwise its group is mid-flush
+            boolean abandoned = queue.remove(pending);
+            throw new IllegalStateException(abandoned
+                    ? "Timed out waiting for group commit"
+                    : "Timed out waiting for group commit; the item may still be created");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            throw new IllegalStateException("Interrupted waiting for group commit", e);
+        }
+    }
+
+    private void run() {
+        List<PendingCreate> group = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                PendingCreate first = queue.take();
+                group.add(first);
+                long deadline = first.enqueuedAt() + maxWaitNanos;
+                while (group.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                flush(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                group.forEach(pending -> pending.result().completeExceptionally(new IllegalStateException("Shutting down")));
+                return;
+            } catch (Throwable t) {
+                // Keep the writer alive and never leave a caller waiting on a group that blew up
+                logger.error("Group commit of {} items failed", group.size(), t);
+                group.forEach(pending -> pending.result().completeExceptionally(t));
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingCreate> group) {
+        long flushedAt = System.nanoTime();
+        group.forEach(pending -> queueWait.record(flushedAt - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSizes.record(group.size());
+
+        try {
+            List<Item> created = itemService.createItems(group.stream().map(PendingCreate::item).toList());
+            for (int i = 0; i < group.size(); i++) {
+                group.get(i).result().complete(created.get(i));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Group commit of {} items failed, retrying individually", group.size(), e);
+            for (PendingCreate pending : group) {
+                try {
+                    pending.result().complete(itemService.createItems(List.of(pending.item())).get(0));
+                } catch (RuntimeException individual) {
+                    pending.result().completeExceptionally(individual);
+                }
+            }
+        }
+    }
+}
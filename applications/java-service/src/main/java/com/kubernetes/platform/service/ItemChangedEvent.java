@@ -0,0 +1,27 @@
+package com.kubernetes.platform.service;
+
+import com.kubernetes.platform.model.Item;
+
+/**
+ * Published by {@link ItemService} for every single-item write. {@code before} is a detached
+ * snapshot of the row prior to the write and is {@code null} for creates; {@code after} is
+ * {@code null} for deletes.
+ */
+public record ItemChangedEvent(Item before, Item after) {
+
+    public static ItemChangedEvent created(Item after) {
+        return new ItemChangedEvent(null, after);
+    }
+
+    public static ItemChangedEvent updated(Item before, Item after) {
+        return new ItemChangedEvent(before, after);
+    }
+
+    public static ItemChangedEvent deleted(Item before) {
+        return new ItemChangedEvent(before, null);
+    }
+
+    public Long id() {
+        return after != null ? after.getId() : before.getId();
+    }
+}
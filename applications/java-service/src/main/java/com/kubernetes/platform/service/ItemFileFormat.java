@@ -0,0 +1,20 @@
+package com.kubernetes.platform.service;
+
+import org.springframework.http.MediaType;
+
+// Line-oriented formats accepted by ItemImporter and produced by ItemExporter
+public enum ItemFileFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    ItemFileFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
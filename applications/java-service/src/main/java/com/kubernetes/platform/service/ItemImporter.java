@@ -0,0 +1,183 @@
+package com.kubernetes.platform.service;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.model.ItemImportSummary;
+import com.kubernetes.platform.model.ItemStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams items from NDJSON or CSV (with a header row) into the database. Rows are parsed
+ * one at a time, validated with the {@link Item} constraints and created through
+ * {@link ItemService#createItems} in transactions of {@code app.items.import.batch-size}
+ * rows, so memory use is bounded by one batch no matter how large the input is. A failed
+ * batch is retried row by row so that only the offending rows are rejected.
+ */
+@Component
+public class ItemImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemImporter.class);
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+
+    private final ItemService itemService;
+    private final Validator validator;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final int batchSize;
+    private final int maxReportedErrors;
+    private final Counter createdRows;
+    private final Counter rejectedRows;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public ItemImporter(ItemService itemService, Validator validator, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                        @Value("${app.items.import.batch-size:500}") int batchSize,
+                        @Value("${app.items.import.max-reported-errors:100}") int maxReportedErrors) {
+        this.itemService = itemService;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.ndjsonReader = objectMapper.readerFor(Item.class);
+        this.csvReader = CsvMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .build()
+                .readerFor(Item.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        this.createdRows = meterRegistry.counter("item_import_rows_total", "service", "java-service", "result", "created");
+        this.rejectedRows = meterRegistry.counter("item_import_rows_total", "service", "java-service", "result", "rejected");
+    }
+
+    public ItemImportSummary importItems(InputStream input, ItemFileFormat format) throws IOException {
+        Progress progress = new Progress();
+        boolean complete = true;
+
+        try (MappingIterator<Item> rows = (format == ItemFileFormat.CSV ? csvReader : ndjsonReader).readValues(input)) {
+            while (true) {
+                Item item;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    progress.rows++;
+                    item = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    // A well-formed row with a bad value; the iterator resumes at the next row
+                    String field = e.getPath().isEmpty() ? "row" : e.getPath().get(e.getPath().size() - 1).getFieldName();
+                    progress.reject(progress.rows, Map.of(field != null ? field : "row", e.getOriginalMessage()));
+                    continue;
+                } catch (JacksonException e) {
+                    progress.reject(progress.rows, Map.of("row", "Malformed input, import stopped: " + e.getOriginalMessage()));
+                    complete = false;
+                    break;
+                }
+
+                if (item.getStatus() == null) {
+                    item.setStatus(ItemStatus.ACTIVE);
+                }
+                Map<String, String> errors = new LinkedHashMap<>();
+                validator.validate(item).forEach(violation ->
+                        errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+                if (!errors.isEmpty()) {
+                    progress.reject(progress.rows, errors);
+                    continue;
+                }
+
+                progress.batch.add(item);
+                progress.batchRows.add(progress.rows);
+                if (progress.batch.size() >= batchSize) {
+                    flush(progress);
+                }
+            }
+        } finally {
+            flush(progress);
+        }
+
+        logger.info("Imported {} rows: {} created, {} rejected{}", progress.rows, progress.created, progress.rejected,
+                complete ? "" : " (stopped at malformed input)");
+        return new ItemImportSummary(progress.rows, progress.created, progress.rejected, complete,
+                progress.errors, progress.rejected > progress.errors.size());
+    }
+
+    private void flush(Progress progress) {
+        if (progress.batch.isEmpty()) {
+            return;
+        }
+        try {
+            itemService.createItems(progress.batch);
+            progress.created += progress.batch.size();
+            createdRows.increment(progress.batch.size());
+        } catch (RuntimeException e) {
+            logger.warn("Import batch of {} rows failed, retrying row by row", progress.batch.size(), e);
+            for (int i = 0; i < progress.batch.size(); i++) {
+                try {
+                    itemService.createItems(List.of(progress.batch.get(i)));
+                    progress.created++;
+                    createdRows.increment();
+                } catch (RuntimeException individual) {
+                    progress.reject(progress.batchRows.get(i), Map.of("item", String.valueOf(individual.getMessage())));
+                }
+            }
+        } finally {
+            // With open-in-view the request's persistence context outlives each transaction; drop the created entities
+            entityManager.clear();
+            progress.batch.clear();
+            progress.batchRows.clear();
+        }
+
+        if (progress.rows >= progress.nextProgressLog) {
+            progress.nextProgressLog += PROGRESS_LOG_INTERVAL;
+            logger.info("Import progress: {} rows read, {} created, {} rejected", progress.rows, progress.created, progress.rejected);
+        }
+    }
+
+    private class Progress {
+
+        final List<Item> batch = new ArrayList<>(batchSize);
+        final List<Long> batchRows = new ArrayList<>(batchSize);
+        final List<Map<String, Object>> errors = new ArrayList<>();
+        long rows;
+        long created;
+        long rejected;
+        long nextProgressLog = PROGRESS_LOG_INTERVAL;
+
+        void reject(long row, Map<String, ?> rowErrors) {
+            rejected++;
+            rejectedRows.increment();
+            if (errors.size() < maxReportedErrors) {
+                Map<String, Object> error = new LinkedHashMap<>();
+                error.put("row", row);
+                error.put("errors", rowErrors);
+                errors.add(error);
+            }
+        }
+    }
+}
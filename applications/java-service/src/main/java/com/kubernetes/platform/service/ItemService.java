@@ -1,98 +1,368 @@
 package com.kubernetes.platform.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kubernetes.platform.cache.EncodedItem;
+import com.kubernetes.platform.cache.ItemIdFilter;
+import com.kubernetes.platform.cache.OffHeapItemStore;
 import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.model.ItemStats;
 import com.kubernetes.platform.model.ItemStatus;
 import com.kubernetes.platform.repository.ItemRepository;
+import com.kubernetes.platform.repository.ItemSummary;
+import com.kubernetes.platform.search.ItemSearchIndex;
+import com.kubernetes.platform.search.ItemSuggestionIndex;
+import com.kubernetes.platform.search.ItemTrigramIndex;
+import com.kubernetes.platform.search.SearchHits;
+import com.kubernetes.platform.search.Suggestion;
+import com.kubernetes.platform.singleflight.SingleFlight;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class ItemService {
 
     private static final Logger logger = LoggerFactory.getLogger(ItemService.class);
+    // Upper bound on the ids bound into one IN list
+    private static final int ID_CHUNK_SIZE = 1000;
 
     private final ItemRepository itemRepository;
+    private final ItemStatsTracker itemStatsTracker;
+    private final CategoryCache categoryCache;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemTrigramIndex itemTrigramIndex;
+    private final ItemSuggestionIndex itemSuggestionIndex;
+    private final OffHeapItemStore offHeapItemStore;
+    private final ItemIdFilter itemIdFilter;
+    private final PendingStatusUpdates pendingStatusUpdates;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public ItemService(ItemRepository itemRepository) {
+    public ItemService(ItemRepository itemRepository, ItemStatsTracker itemStatsTracker, CategoryCache categoryCache,
+                       ItemSearchIndex itemSearchIndex, ItemTrigramIndex itemTrigramIndex,
+                       ItemSuggestionIndex itemSuggestionIndex, OffHeapItemStore offHeapItemStore,
+                       ItemIdFilter itemIdFilter, PendingStatusUpdates pendingStatusUpdates, ObjectMapper objectMapper,
+                       ApplicationEventPublisher eventPublisher) {
         this.itemRepository = itemRepository;
+        this.itemStatsTracker = itemStatsTracker;
+        this.categoryCache = categoryCache;
+        this.itemSearchIndex = itemSearchIndex;
+        this.itemTrigramIndex = itemTrigramIndex;
+        this.itemSuggestionIndex = itemSuggestionIndex;
+        this.offHeapItemStore = offHeapItemStore;
+        this.itemIdFilter = itemIdFilter;
+        this.pendingStatusUpdates = pendingStatusUpdates;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<Item> getAllItems() {
-        logger.debug("Fetching all items");
-        return itemRepository.findAll();
+    public Page<Item> getItems(Pageable pageable) {
+        logger.debug("Fetching items page: {}", pageable);
+        return itemRepository.findAll(pageable).map(this::withPendingStatus);
     }
 
+    public Slice<Item> getItemsAfterCursor(ItemCursor cursor, int size) {
+        logger.debug("Fetching {} items after cursor: {}", size, cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Item> items = cursor == null
+                ? itemRepository.findFirstByUpdatedAt(limit)
+                : itemRepository.findAfterByUpdatedAt(cursor.updatedAt(), cursor.id(), limit);
+
+        boolean hasNext = items.size() > size;
+        return new SliceImpl<>(withPendingStatuses(hasNext ? items.subList(0, size) : items), PageRequest.of(0, size), hasNext);
+    }
+
+    @SingleFlight
     public Optional<Item> getItemById(Long id) {
         logger.debug("Fetching item with ID: {}", id);
-        return itemRepository.findById(id);
+        if (!itemIdFilter.mightExist(id)) {
+            return Optional.empty();
+        }
+        // Coalesced callers share the result across threads, so hand out a detached copy rather than
+        // the entity managed by the executing caller's persistence context
+        return findExisting(id).map(item -> {
+            Item copy = snapshot(item);
+            ItemStatus pending = pendingStatusUpdates.get(id);
+            if (pending != null) {
+                copy.setStatus(pending);
+            }
+            return copy;
+        });
+    }
+
+    // Hits are served from the off-heap store without a transaction or an Item instance; items with a pending
+    // status change bypass the store so the caller sees its own write
+    @SingleFlight
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<EncodedItem> getItemJsonById(Long id) {
+        if (!itemIdFilter.mightExist(id)) {
+            return Optional.empty();
+        }
+        if (pendingStatusUpdates.get(id) != null) {
+            return findExisting(id).map(item -> encode(withPendingStatus(item)));
+        }
+        EncodedItem cached = offHeapItemStore.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long stamp = offHeapItemStore.stamp();
+        return findExisting(id).map(item -> {
+            EncodedItem encoded = encode(item);
+            offHeapItemStore.putIfNotInvalidated(id, encoded, stamp);
+            return encoded;
+        });
+    }
+
+    // Accepted without touching the database; StatusWriteBehindFlusher writes it later
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean updateStatusAsync(Long id, ItemStatus status) {
+        if (!itemIdFilter.mightExist(id)) {
+            throw new RuntimeException("Item not found with id: " + id);
+        }
+        return pendingStatusUpdates.offer(id, status, () -> findExisting(id)
+                .map(Item::getVersion)
+                .orElseThrow(() -> new RuntimeException("Item not found with id: " + id)));
+    }
+
+    // Writes each status only if its item is still at the version the status was accepted against; the versioned
+    // UPDATE also rejects a write that commits after the check. Returns the resulting version of each matched item
+    public Map<Long, Long> applyStatusUpdates(List<PendingStatusUpdates.PendingStatus> statuses) {
+        Map<Long, PendingStatusUpdates.PendingStatus> statusesById = new HashMap<>();
+        statuses.forEach(status -> statusesById.put(status.id(), status));
+
+        List<Item> changed = new ArrayList<>();
+        Map<Long, Long> writtenVersions = new HashMap<>();
+        for (Item item : itemRepository.findAllById(statusesById.keySet())) {
+            PendingStatusUpdates.PendingStatus pending = statusesById.get(item.getId());
+            if (item.getVersion() != pending.version()) {
+                continue;
+            }
+            if (item.getStatus() == pending.status()) {
+                writtenVersions.put(item.getId(), item.getVersion());
+                continue;
+            }
+            Item before = snapshot(item);
+            item.setStatus(pending.status());
+            eventPublisher.publishEvent(ItemChangedEvent.updated(before, item));
+            changed.add(item);
+        }
+        itemRepository.flush();
+        changed.forEach(item -> writtenVersions.put(item.getId(), item.getVersion()));
+        return writtenVersions;
     }
 
     public Item createItem(Item item) {
         logger.info("Creating new item: {}", item.getName());
-        return itemRepository.save(item);
+        item.setId(null);
+        item.setVersion(null);
+        Item savedItem = itemRepository.save(item);
+        eventPublisher.publishEvent(ItemChangedEvent.created(savedItem));
+        return savedItem;
+    }
+
+    public List<Item> createItems(List<Item> items) {
+        logger.info("Creating {} items", items.size());
+        items.forEach(item -> {
+            item.setId(null);
+            item.setVersion(null);
+        });
+        List<Item> savedItems = itemRepository.saveAll(items);
+        savedItems.forEach(item -> eventPublisher.publishEvent(ItemChangedEvent.created(item)));
+        return savedItems;
     }
 
-    public Item updateItem(Long id, Item itemDetails) {
+    // Non-null expectedVersions must contain the stored version; either way Hibernate's versioned UPDATE rejects a
+    // concurrent write that lands between the read and the flush
+    public Item updateItem(Long id, Item itemDetails, Set<Long> expectedVersions) {
         logger.info("Updating item with ID: {}", id);
 
-        return itemRepository.findById(id)
+        return Optional.of(id)
+                .filter(itemIdFilter::mightExist)
+                .flatMap(this::findExisting)
                 .map(item -> {
+                    checkVersion(item, expectedVersions);
+                    Item before = snapshot(item);
                     item.setName(itemDetails.getName());
                     item.setDescription(itemDetails.getDescription());
                     item.setCategory(itemDetails.getCategory());
                     item.setStatus(itemDetails.getStatus());
-                    return itemRepository.save(item);
+                    Item savedItem = itemRepository.save(item);
+                    discardPendingStatusesAfterCommit(List.of(id));
+                    eventPublisher.publishEvent(ItemChangedEvent.updated(before, savedItem));
+                    return savedItem;
+                })
+                .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
+    }
+
+    // Changes are keyed by field name. The item is still read first, from the second-level cache when possible, so
+    // the change can be published with its before state; dirty checking then issues one versioned UPDATE of just the
+    // changed columns (Item is @DynamicUpdate), and the rest of the Item region stays cached
+    public Item patchItem(Long id, Map<String, Object> changes, Set<Long> expectedVersions) {
+        logger.info("Patching item with ID: {} with changes: {}", id, changes.keySet());
+
+        return Optional.of(id)
+                .filter(itemIdFilter::mightExist)
+                .flatMap(this::findExisting)
+                .map(item -> {
+                    checkVersion(item, expectedVersions);
+                    Item before = snapshot(item);
+                    changes.forEach((field, value) -> {
+                        switch (field) {
+                            case "name" -> item.setName((String) value);
+                            case "description" -> item.setDescription((String) value);
+                            case "category" -> item.setCategory((String) value);
+                            case "status" -> item.setStatus((ItemStatus) value);
+                            default -> throw new IllegalArgumentException("Field cannot be patched: " + field);
+                        }
+                    });
+                    discardPendingStatusesAfterCommit(List.of(id));
+                    eventPublisher.publishEvent(ItemChangedEvent.updated(before, item));
+                    return item;
                 })
                 .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
     }
 
-    public void deleteItem(Long id) {
+    public void deleteItem(Long id, Set<Long> expectedVersions) {
         logger.info("Deleting item with ID: {}", id);
 
-        if (!itemRepository.existsById(id)) {
-            throw new RuntimeException("Item not found with id: " + id);
+        Item item = Optional.of(id)
+                .filter(itemIdFilter::mightExist)
+                .flatMap(this::findExisting)
+                .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
+        checkVersion(item, expectedVersions);
+
+        itemRepository.delete(item);
+        discardPendingStatusesAfterCommit(List.of(id));
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(item));
+    }
+
+    // One set-based statement: the matched ids are never materialized, so every cached item is invalidated. Pending
+    // statuses accepted after the matching ones are looked up are dropped at flush time by their version check
+    public int updateItems(ItemStatus status, String category, Map<String, Object> changes) {
+        logger.info("Updating items with status: {}, category: {} with changes: {}", status, category, changes);
+        String categoryKey = Item.normalizeCategory(category);
+        List<Long> pendingIds = pendingIdsMatching(status, categoryKey);
+        int updated = itemRepository.updateByFilter(status, categoryKey, changes);
+        if (updated > 0) {
+            discardPendingStatusesAfterCommit(pendingIds);
+            eventPublisher.publishEvent(ItemsInvalidatedEvent.all(false));
+        }
+        return updated;
+    }
+
+    public int deleteItems(ItemStatus status, String category) {
+        logger.info("Deleting items with status: {}, category: {}", status, category);
+        String categoryKey = Item.normalizeCategory(category);
+        List<Long> pendingIds = pendingIdsMatching(status, categoryKey);
+        int deleted = itemRepository.deleteByFilter(status, categoryKey);
+        if (deleted > 0) {
+            discardPendingStatusesAfterCommit(pendingIds);
+            eventPublisher.publishEvent(ItemsInvalidatedEvent.all(false));
         }
+        return deleted;
+    }
+
+    public Page<Item> getItemsByStatus(ItemStatus status, Pageable pageable) {
+        logger.debug("Fetching items with status: {}, page: {}", status, pageable);
+        return itemRepository.findByStatus(status, pageable).map(this::withPendingStatus);
+    }
 
-        itemRepository.deleteById(id);
+    public Page<Item> getItemsByCategory(String category, Pageable pageable) {
+        logger.debug("Fetching items in category: {}, page: {}", category, pageable);
+        return itemRepository.findByCategoryKey(Item.normalizeCategory(category), pageable).map(this::withPendingStatus);
     }
 
-    public List<Item> getItemsByStatus(ItemStatus status) {
-        logger.debug("Fetching items with status: {}", status);
-        return itemRepository.findByStatus(status);
+    public Page<Item> getItemsByStatusAndCategory(ItemStatus status, String category, Pageable pageable) {
+        logger.debug("Fetching items with status: {} in category: {}, page: {}", status, category, pageable);
+        return itemRepository.findByStatusAndCategoryKey(status, Item.normalizeCategory(category), pageable)
+                .map(this::withPendingStatus);
     }
 
-    public List<Item> getItemsByCategory(String category) {
-        logger.debug("Fetching items in category: {}", category);
-        return itemRepository.findByCategory(category);
+    public Page<ItemSummary> getItemSummaries(ItemStatus status, String category, Pageable pageable) {
+        logger.debug("Fetching item summaries with status: {} in category: {}, page: {}", status, category, pageable);
+        Page<ItemSummary> summaries;
+        if (status != null && category != null) {
+            summaries = itemRepository.findByStatusAndCategoryKey(status, Item.normalizeCategory(category), pageable, ItemSummary.class);
+        } else if (status != null) {
+            summaries = itemRepository.findByStatus(status, pageable, ItemSummary.class);
+        } else if (category != null) {
+            summaries = itemRepository.findByCategoryKey(Item.normalizeCategory(category), pageable, ItemSummary.class);
+        } else {
+            summaries = itemRepository.findAllBy(pageable, ItemSummary.class);
+        }
+        return summaries.map(this::withPendingStatus);
     }
 
     public Page<Item> searchItemsByName(String name, Pageable pageable) {
         logger.debug("Searching items by name: {}", name);
-        return itemRepository.findByNameContainingIgnoreCase(name, pageable);
+        SearchHits hits = itemTrigramIndex.search(name, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findAllInOrder(hits.ids()), pageable, hits.totalHits());
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return itemSuggestionIndex.suggest(prefix, limit);
     }
 
     public List<String> getAllCategories() {
         logger.debug("Fetching all categories");
-        return itemRepository.findDistinctCategories();
+        return categoryCache.get().categories();
+    }
+
+    public byte[] getAllCategoriesJson() {
+        return categoryCache.responseJson();
     }
 
-    public long getItemCountByStatus(ItemStatus status) {
-        return itemRepository.countByStatus(status);
+    public ItemStats getItemStats() {
+        return itemStatsTracker.snapshot();
     }
 
-    public List<Item> searchItems(String keyword) {
-        logger.debug("Searching items with keyword: {}", keyword);
-        return itemRepository.searchByKeyword(keyword);
+    public Page<Item> searchItems(String keyword, Pageable pageable) {
+        logger.debug("Searching items with keyword: {}, page: {}", keyword, pageable);
+        SearchHits hits = itemSearchIndex.search(keyword, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findAllInOrder(hits.ids()), pageable, hits.totalHits());
+    }
+
+    public Page<ItemSummary> searchItemSummaries(String keyword, Pageable pageable) {
+        logger.debug("Searching item summaries with keyword: {}, page: {}", keyword, pageable);
+        SearchHits hits = itemSearchIndex.search(keyword, pageable.getOffset(), pageable.getPageSize());
+        Map<Long, ItemSummary> summariesById = new HashMap<>();
+        for (ItemSummary summary : itemRepository.findByIdIn(Arrays.stream(hits.ids()).boxed().toList(), ItemSummary.class)) {
+            summariesById.put(summary.getId(), summary);
+        }
+        List<ItemSummary> summaries = new ArrayList<>(hits.ids().length);
+        for (long id : hits.ids()) {
+            ItemSummary summary = summariesById.get(id);
+            if (summary != null) {
+                summaries.add(withPendingStatus(summary));
+            }
+        }
+        return new PageImpl<>(summaries, pageable, hits.totalHits());
     }
 
     public void initializeData() {
@@ -112,8 +382,132 @@ public class ItemService {
                 new Item("Circuit Breaker", "Resilience pattern implementation", "Resilience")
             );
 
-            itemRepository.saveAll(sampleItems);
+            createItems(sampleItems);
             logger.info("Sample data initialized with {} items", sampleItems.size());
         }
     }
-}
\ No newline at end of file
+
+    private List<Item> findAllInOrder(long[] ids) {
+        Map<Long, Item> itemsById = new HashMap<>();
+        for (Item item : itemRepository.findAllById(Arrays.stream(ids).boxed().toList())) {
+            itemsById.put(item.getId(), item);
+        }
+        List<Item> items = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Item item = itemsById.get(id);
+            if (item != null) {
+                items.add(withPendingStatus(item));
+            }
+        }
+        return items;
+    }
+
+    // Returns a detached copy rather than modifying the managed entity, which would be flushed on commit
+    private Item withPendingStatus(Item item) {
+        ItemStatus pending = pendingStatusUpdates.get(item.getId());
+        if (pending == null || pending == item.getStatus()) {
+            return item;
+        }
+        Item copy = snapshot(item);
+        copy.setStatus(pending);
+        return copy;
+    }
+
+    private ItemSummary withPendingStatus(ItemSummary summary) {
+        ItemStatus pending = pendingStatusUpdates.get(summary.getId());
+        return pending == null || pending == summary.getStatus() ? summary : new PendingStatusSummary(summary, pending);
+    }
+
+    private List<Item> withPendingStatuses(List<Item> items) {
+        return pendingStatusUpdates.isEmpty() ? items : items.stream().map(this::withPendingStatus).toList();
+    }
+
+    private EncodedItem encode(Item item) {
+        try {
+            return new EncodedItem(item.getVersion(), objectMapper.writeValueAsBytes(item));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize item " + item.getId(), e);
+        }
+    }
+
+    // A synchronous write supersedes statuses still waiting to be written. Discarding only once it is visible keeps
+    // the overlay from briefly showing the old row; the flusher's version check covers statuses it already picked up
+    private void discardPendingStatusesAfterCommit(List<Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(pendingStatusUpdates::discard);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(pendingStatusUpdates::discard);
+            }
+        });
+    }
+
+    // Bounded by app.items.status-write-behind.max-pending rather than by the number of rows the filter matches
+    private List<Long> pendingIdsMatching(ItemStatus status, String categoryKey) {
+        List<Long> pendingIds = pendingStatusUpdates.snapshot().stream().map(PendingStatusUpdates.PendingStatus::id).toList();
+        List<Long> matching = new ArrayList<>();
+        for (int from = 0; from < pendingIds.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = pendingIds.subList(from, Math.min(from + ID_CHUNK_SIZE, pendingIds.size()));
+            matching.addAll(itemRepository.findIdsInByFilter(chunk, status, categoryKey));
+        }
+        return matching;
+    }
+
+    private Optional<Item> findExisting(Long id) {
+        Optional<Item> item = itemRepository.findById(id);
+        if (item.isEmpty()) {
+            itemIdFilter.recordFalsePositive();
+        }
+        return item;
+    }
+
+    private static void checkVersion(Item item, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(item.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Item.class, item.getId());
+        }
+    }
+
+    private static Item snapshot(Item item) {
+        Item copy = new Item(item.getName(), item.getDescription(), item.getCategory());
+        copy.setId(item.getId());
+        copy.setStatus(item.getStatus());
+        copy.setCreatedAt(item.getCreatedAt());
+        copy.setUpdatedAt(item.getUpdatedAt());
+        copy.setVersion(item.getVersion());
+        return copy;
+    }
+
+    private static final class PendingStatusSummary implements ItemSummary {
+
+        private final ItemSummary summary;
+        private final ItemStatus status;
+
+        PendingStatusSummary(ItemSummary summary, ItemStatus status) {
+            this.summary = summary;
+            this.status = status;
+        }
+
+        @Override
+        public Long getId() {
+            return summary.getId();
+        }
+
+        @Override
+        public String getName() {
+            return summary.getName();
+        }
+
+        @Override
+        public String getCategory() {
+            return summary.getCategory();
+        }
+
+        @Override
+        public ItemStatus getStatus() {
+            return status;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.kubernetes.platform.service;
+
+import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.model.ItemStats;
+import com.kubernetes.platform.model.ItemStatus;
+import com.kubernetes.platform.repository.CategoryCount;
+import com.kubernetes.platform.repository.ItemRepository;
+import com.kubernetes.platform.repository.StatusCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory item counters kept current from committed {@link ItemChangedEvent}s so that
+ * stats reads never touch the database. Periodic reconciliation corrects any drift, e.g.
+ * from events racing a reconciliation or writes made outside {@link ItemService}; an
+ * {@link ItemsInvalidatedEvent} triggers one within {@code app.stats.invalidation-delay-ms}.
+ */
+@Component
+public class ItemStatsTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemStatsTracker.class);
+
+    private final ItemRepository itemRepository;
+    private final CategoryCache categoryCache;
+    private final Map<ItemStatus, LongAdder> statusCounts = new EnumMap<>(ItemStatus.class);
+    private final ConcurrentHashMap<String, Long> categoryCounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+
+    @Autowired
+    public ItemStatsTracker(ItemRepository itemRepository, CategoryCache categoryCache) {
+        this.itemRepository = itemRepository;
+        this.categoryCache = categoryCache;
+        for (ItemStatus status : ItemStatus.values()) {
+            statusCounts.put(status, new LongAdder());
+        }
+    }
+
+    public ItemStats snapshot() {
+        Map<ItemStatus, Long> countsByStatus = new EnumMap<>(ItemStatus.class);
+        long total = 0;
+        for (Map.Entry<ItemStatus, LongAdder> entry : statusCounts.entrySet()) {
+            long count = entry.getValue().sum();
+            countsByStatus.put(entry.getKey(), count);
+            total += count;
+        }
+        return new ItemStats(total, countsByStatus, categoryCounts.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.before() != null) {
+            remove(event.before());
+        }
+        if (event.after() != null) {
+            add(event.after());
+        }
+    }
+
+    // Invalidations carry no before/after state; coalesce them so frequent patches cost one reconciliation per interval
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemsInvalidated(ItemsInvalidatedEvent event) {
+        reconcileRequested.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.invalidation-delay-ms:1000}")
+    public void reconcileIfRequested() {
+        if (reconcileRequested.getAndSet(false)) {
+            reconcile();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:60000}",
+            initialDelayString = "${app.stats.reconcile-interval-ms:60000}")
+    public synchronized void reconcile() {
+        boolean drifted = false;
+
+        Map<ItemStatus, Long> dbStatusCounts = new EnumMap<>(ItemStatus.class);
+        for (StatusCount statusCount : itemRepository.countGroupedByStatus()) {
+            dbStatusCounts.put(statusCount.getStatus(), statusCount.getCount());
+        }
+        for (Map.Entry<ItemStatus, LongAdder> entry : statusCounts.entrySet()) {
+            long delta = dbStatusCounts.getOrDefault(entry.getKey(), 0L) - entry.getValue().sum();
+            if (delta != 0) {
+                entry.getValue().add(delta);
+                drifted = true;
+            }
+        }
+
+        Map<String, Long> dbCategoryCounts = new HashMap<>();
+        for (CategoryCount categoryCount : itemRepository.countGroupedByCategory()) {
+            dbCategoryCounts.put(categoryCount.getCategory(), categoryCount.getCount());
+        }
+        boolean categoriesChanged = categoryCounts.keySet().retainAll(dbCategoryCounts.keySet());
+        for (Map.Entry<String, Long> entry : dbCategoryCounts.entrySet()) {
+            Long previous = categoryCounts.put(entry.getKey(), entry.getValue());
+            categoriesChanged |= previous == null;
+            drifted |= !entry.getValue().equals(previous);
+        }
+        if (categoriesChanged) {
+            categoryCache.invalidate();
+            drifted = true;
+        }
+
+        if (drifted) {
+            logger.info("Reconciled item stats with database: {}", snapshot());
+        }
+    }
+
+    private void add(Item item) {
+        statusCounts.get(item.getStatus()).increment();
+        if (categoryCounts.merge(item.getCategory(), 1L, Long::sum) == 1L) {
+            categoryCache.invalidate();
+        }
+    }
+
+    private void remove(Item item) {
+        statusCounts.get(item.getStatus()).decrement();
+        if (categoryCounts.computeIfPresent(item.getCategory(), (category, count) -> count > 1 ? count - 1 : null) == null) {
+            categoryCache.invalidate();
+        }
+    }
+}
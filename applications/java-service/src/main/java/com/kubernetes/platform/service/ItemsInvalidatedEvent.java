@@ -0,0 +1,24 @@
+package com.kubernetes.platform.service;
+
+import java.util.Set;
+
+/**
+ * Signals that the listed items may have changed without a before/after snapshot being
+ * available, e.g. after a write on another replica. Holders of derived state must reload
+ * the affected items from the database. {@code itemIds == null} invalidates every item.
+ * {@code remote} is set when the change was made by another instance.
+ */
+public record ItemsInvalidatedEvent(Set<Long> itemIds, boolean remote) {
+
+    public static ItemsInvalidatedEvent all(boolean remote) {
+        return new ItemsInvalidatedEvent(null, remote);
+    }
+
+    public static ItemsInvalidatedEvent of(Set<Long> itemIds, boolean remote) {
+        return new ItemsInvalidatedEvent(Set.copyOf(itemIds), remote);
+    }
+
+    public boolean isAll() {
+        return itemIds == null;
+    }
+}
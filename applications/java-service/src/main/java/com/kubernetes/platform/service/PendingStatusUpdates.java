@@ -0,0 +1,104 @@
+package com.kubernetes.platform.service;
+
+import com.kubernetes.platform.model.ItemStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Accepted but not yet written status changes, keeping only the latest status per item.
+ * Bounded by {@code app.items.status-write-behind.max-pending} distinct items; a newer
+ * status for an item that is already pending always replaces the older one. Each status
+ * remembers the item version it was accepted against, and {@link StatusWriteBehindFlusher}
+ * only writes it if the row is still at that version, so a synchronous write that commits in
+ * the meantime is never overwritten. Overlaid on reads by {@link ItemService}.
+ */
+@Component
+public class PendingStatusUpdates {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ConcurrentHashMap<Long, PendingStatus> pending = new ConcurrentHashMap<>();
+    private final int maxPending;
+    private final Counter rejected;
+    // Orders offer() against written() per item, so a replacement never misses the version bump of a flush
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public record PendingStatus(Long id, ItemStatus status, long version, long acceptedAt) {
+    }
+
+    @Autowired
+    public PendingStatusUpdates(@Value("${app.items.status-write-behind.max-pending:100000}") int maxPending,
+                                MeterRegistry meterRegistry) {
+        this.maxPending = maxPending;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        this.rejected = meterRegistry.counter("item_status_write_behind_rejected_total", "service", "java-service");
+        Gauge.builder("item_status_write_behind_pending", pending, ConcurrentHashMap::size)
+                .description("Status changes accepted but not yet written")
+                .tag("service", "java-service").register(meterRegistry);
+    }
+
+    // False when the queue is full and the item has nothing pending to replace; currentVersion is only
+    // consulted when nothing is pending, since a replacement targets the same row version as the status it replaces
+    public boolean offer(Long id, ItemStatus status, LongSupplier currentVersion) {
+        synchronized (lock(id)) {
+            PendingStatus current = pending.get(id);
+            if (current == null && pending.size() >= maxPending) {
+                rejected.increment();
+                return false;
+            }
+            long version = current != null ? current.version() : currentVersion.getAsLong();
+            pending.put(id, new PendingStatus(id, status, version, System.nanoTime()));
+            return true;
+        }
+    }
+
+    public ItemStatus get(Long id) {
+        PendingStatus status = pending.get(id);
+        return status != null ? status.status() : null;
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    // A synchronous write supersedes whatever status is still waiting to be written
+    public void discard(Long id) {
+        pending.remove(id);
+    }
+
+    List<PendingStatus> snapshot() {
+        return new ArrayList<>(pending.values());
+    }
+
+    // Called once the batch has committed, with the new version of every item whose row matched. Entries replaced
+    // since the snapshot stay queued, retargeted at the version this flush produced
+    void written(List<PendingStatus> statuses, Map<Long, Long> writtenVersions) {
+        for (PendingStatus status : statuses) {
+            synchronized (lock(status.id())) {
+                PendingStatus current = pending.get(status.id());
+                if (current == status) {
+                    pending.remove(status.id());
+                } else if (current != null && current.version() == status.version() && writtenVersions.containsKey(status.id())) {
+                    pending.put(status.id(), new PendingStatus(status.id(), current.status(),
+                            writtenVersions.get(status.id()), current.acceptedAt()));
+                }
+            }
+        }
+    }
+
+    private Object lock(Long id) {
+        return locks[Long.hashCode(id) & (LOCK_STRIPES - 1)];
+    }
+}
@@ -0,0 +1,89 @@
+package com.kubernetes.platform.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes {@link PendingStatusUpdates} in transactions of up to
+ * {@code app.items.status-write-behind.max-batch} items. A status whose item has been written
+ * since it was accepted, or no longer exists, is dropped. A failed transaction, e.g. one that
+ * lost an optimistic-lock race with a synchronous write, leaves its items queued for the next run.
+ */
+@Component
+public class StatusWriteBehindFlusher {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusWriteBehindFlusher.class);
+
+    private final PendingStatusUpdates pendingStatusUpdates;
+    private final ItemService itemService;
+    private final int maxBatch;
+    private final Timer lag;
+    private final Counter superseded;
+
+    @Autowired
+    public StatusWriteBehindFlusher(PendingStatusUpdates pendingStatusUpdates, ItemService itemService,
+                                    @Value("${app.items.status-write-behind.max-batch:1000}") int maxBatch,
+                                    MeterRegistry meterRegistry) {
+        this.pendingStatusUpdates = pendingStatusUpdates;
+        this.itemService = itemService;
+        this.maxBatch = maxBatch;
+        this.lag = Timer.builder("item_status_write_behind_lag")
+                .description("Time from accepting a status change to committing it")
+                .tag("service", "java-service")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.superseded = Counter.builder("item_status_write_behind_superseded_total")
+                .description("Accepted status changes dropped because the item was written or deleted first")
+                .tag("service", "java-service")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.items.status-write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (pendingStatusUpdates.isEmpty()) {
+            return;
+        }
+        List<PendingStatusUpdates.PendingStatus> snapshot = pendingStatusUpdates.snapshot();
+        for (int from = 0; from < snapshot.size(); from += maxBatch) {
+            List<PendingStatusUpdates.PendingStatus> batch = snapshot.subList(from, Math.min(from + maxBatch, snapshot.size()));
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to write {} pending status changes, will retry", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<PendingStatusUpdates.PendingStatus> batch) {
+        Map<Long, Long> writtenVersions = itemService.applyStatusUpdates(batch);
+        pendingStatusUpdates.written(batch, writtenVersions);
+
+        long writtenAt = System.nanoTime();
+        for (PendingStatusUpdates.PendingStatus pending : batch) {
+            if (writtenVersions.containsKey(pending.id())) {
+                lag.record(writtenAt - pending.acceptedAt(), TimeUnit.NANOSECONDS);
+            } else {
+                superseded.increment();
+            }
+        }
+        logger.debug("Wrote {} of {} pending status changes", writtenVersions.size(), batch.size());
+    }
+}
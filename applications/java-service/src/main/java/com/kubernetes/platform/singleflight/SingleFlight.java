@@ -0,0 +1,18 @@
+package com.kubernetes.platform.singleflight;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesces concurrent invocations of the annotated method with equal arguments: the first
+ * caller runs the method and every caller that arrives while it is in flight receives the
+ * same result or exception. Results are not cached once the call completes.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+}
@@ -0,0 +1,52 @@
+package com.kubernetes.platform.singleflight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Applies {@link SingleFlight} to Spring beans. Runs ahead of the transaction advice so that
+ * callers that join an in-flight execution never open a transaction of their own.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAspect {
+
+    private final SingleFlightGroup group = new SingleFlightGroup();
+    private final MeterRegistry meterRegistry;
+
+    private record Key(Method method, List<Object> arguments) {
+    }
+
+    @Autowired
+    public SingleFlightAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.kubernetes.platform.singleflight.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        boolean[] executed = new boolean[1];
+
+        Object result = group.execute(new Key(method, Arrays.asList(joinPoint.getArgs())), () -> {
+            executed[0] = true;
+            return joinPoint.proceed();
+        });
+
+        meterRegistry.counter("single_flight_calls_total", "service", "java-service", "method", name,
+                "outcome", executed[0] ? "executed" : "coalesced").increment();
+        return result;
+    }
+}
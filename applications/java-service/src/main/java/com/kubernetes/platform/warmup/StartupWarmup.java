@@ -0,0 +1,145 @@
+package com.kubernetes.platform.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.service.ItemService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warms a freshly started instance before it takes traffic: loads the most recently updated
+ * items and the categories into the caches, then drives the {@link ItemService} read paths
+ * behind the item endpoints, serializing each result as the controller would, enough times
+ * for the JIT to compile them. The controller itself is bypassed so that warm-up calls do not
+ * show up in the {@code api_requests_total} and {@code api_request_duration} metrics. Runs once startup has
+ * finished (after {@code DatabaseConfig.initDatabase} and the index rebuilds) and flips
+ * {@link WarmupHealthIndicator} to UP when done. Runs on the application task executor, so it is
+ * stopped with the context.
+ */
+@Component
+public class StartupWarmup {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private final ItemService itemService;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor taskExecutor;
+    private final WarmupHealthIndicator healthIndicator;
+    private final boolean enabled;
+    private final int hotItems;
+    private final int iterations;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicLong durationMs = new AtomicLong();
+    private volatile boolean stopping;
+
+    @Autowired
+    public StartupWarmup(ItemService itemService, ObjectMapper objectMapper,
+                         @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor,
+                         WarmupHealthIndicator healthIndicator, MeterRegistry meterRegistry,
+                         @Value("${app.warmup.enabled:true}") boolean enabled,
+                         @Value("${app.warmup.hot-items:100}") int hotItems,
+                         @Value("${app.warmup.iterations:300}") int iterations) {
+        this.itemService = itemService;
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        this.healthIndicator = healthIndicator;
+        this.enabled = enabled;
+        this.hotItems = hotItems;
+        this.iterations = iterations;
+
+        TimeGauge.builder("startup_warmup_duration", durationMs, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .tag("service", "java-service")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC || !started.compareAndSet(false, true)) {
+            return;
+        }
+        if (!enabled) {
+            healthIndicator.completed(0, 0);
+            return;
+        }
+
+        taskExecutor.execute(this::warmUp);
+    }
+
+    // The application executor lets running tasks finish before the context shuts down, so end the loop early
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed() {
+        stopping = true;
+    }
+
+    private void warmUp() {
+        healthIndicator.started();
+        long start = System.currentTimeMillis();
+        try {
+            int calls = run();
+            durationMs.set(System.currentTimeMillis() - start);
+            healthIndicator.completed(durationMs.get(), calls);
+            logger.info("Warm-up completed with {} calls in {} ms", calls, durationMs.get());
+        } catch (Exception e) {
+            durationMs.set(System.currentTimeMillis() - start);
+            healthIndicator.failed(durationMs.get(), e);
+            logger.warn("Warm-up failed after {} ms, marking ready anyway", durationMs.get(), e);
+        }
+    }
+
+    private int run() throws JsonProcessingException {
+        List<Item> items = itemService.getItems(
+                PageRequest.of(0, Math.max(1, hotItems), Sort.by(Sort.Direction.DESC, "updatedAt"))).getContent();
+        for (Item item : items) {
+            itemService.getItemJsonById(item.getId());
+        }
+        itemService.getAllCategoriesJson();
+        itemService.getItemStats();
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        Pageable firstPage = PageRequest.of(0, 10);
+        Pageable byId = PageRequest.of(0, 10, Sort.by("id"));
+        Pageable recentlyUpdated = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "updatedAt").and(Sort.by("id")));
+        int calls = 0;
+        for (int i = 0; i < iterations && !stopping; i++) {
+            Item item = items.get(i % items.size());
+            String name = item.getName();
+            itemService.getItemJsonById(item.getId());
+            serialize(itemService.getItems(byId).getContent());
+            serialize(itemService.getItemSummaries(item.getStatus(), item.getCategory(), recentlyUpdated).getContent());
+            itemService.getAllCategoriesJson();
+            serialize(itemService.searchItems(item.getCategory(), firstPage).getContent());
+            serialize(itemService.searchItemsByName(name.substring(0, Math.min(3, name.length())), firstPage).getContent());
+            serialize(itemService.suggest(name.substring(0, Math.min(2, name.length())), 10));
+            serialize(itemService.getItemStats());
+            calls += 8;
+        }
+        return calls;
+    }
+
+    private void serialize(Object value) throws JsonProcessingException {
+        objectMapper.writeValueAsBytes(value);
+    }
+}
@@ -0,0 +1,41 @@
+package com.kubernetes.platform.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE until {@link StartupWarmup} has finished, keeping the pod out of the
+ * readiness group (and so out of the Service endpoints) while it is still cold.
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private volatile Health health = Health.outOfService().withDetail("warmup", "pending").build();
+
+    @Override
+    public Health health() {
+        return health;
+    }
+
+    void started() {
+        health = Health.outOfService().withDetail("warmup", "running").build();
+    }
+
+    void completed(long durationMs, int calls) {
+        health = Health.up()
+                .withDetail("warmup", "completed")
+                .withDetail("durationMs", durationMs)
+                .withDetail("calls", calls)
+                .build();
+    }
+
+    void failed(long durationMs, Exception e) {
+        // Warm-up only affects latency, so a failure must not keep the pod out of rotation
+        health = Health.up()
+                .withDetail("warmup", "failed")
+                .withDetail("durationMs", durationMs)
+                .withDetail("error", String.valueOf(e.getMessage()))
+                .build();
+    }
+}
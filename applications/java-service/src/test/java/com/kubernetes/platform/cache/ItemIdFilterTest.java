@@ -0,0 +1,39 @@
+package com.kubernetes.platform.cache;
+
+import com.kubernetes.platform.repository.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.warmup.enabled=false",
+        "app.stats.reconcile-interval-ms=3600000",
+        "app.stats.invalidation-delay-ms=3600000"
+})
+@AutoConfigureMockMvc
+class ItemIdFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private ItemRepository itemRepository;
+
+    @Test
+    void unknownIdIsNotFoundWithoutQueryingTheRepository() throws Exception {
+        clearInvocations(itemRepository);
+
+        mockMvc.perform(get("/api/v1/items/{id}", 987654321L))
+                .andExpect(status().isNotFound());
+
+        verifyNoInteractions(itemRepository);
+    }
+}
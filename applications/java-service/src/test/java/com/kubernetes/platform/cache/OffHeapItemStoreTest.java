@@ -0,0 +1,131 @@
+package com.kubernetes.platform.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapItemStoreTest {
+
+    // 20-byte header + 80-byte body: exactly ten entries fit in a 1KB slab
+    private static final int JSON_BYTES = 80;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OffHeapItemStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new OffHeapItemStore(DataSize.ofKilobytes(1), DataSize.ofKilobytes(4), meterRegistry);
+    }
+
+    @Test
+    void getReturnsWhatWasPut() {
+        put(1, 3);
+        put(2, 7);
+
+        assertThat(store.get(1).version()).isEqualTo(3);
+        assertThat(store.get(1).json()).isEqualTo(json(1));
+        assertThat(store.get(2).version()).isEqualTo(7);
+        assertThat(store.get(3)).isNull();
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void putReplacesPreviousValue() {
+        put(1, 1);
+        put(1, 2);
+
+        assertThat(store.get(1).version()).isEqualTo(2);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeDropsEntryAndRejectsStalePuts() {
+        put(1, 1);
+        long stamp = store.stamp();
+        store.remove(1);
+        store.putIfNotInvalidated(1, new EncodedItem(1, json(1)), stamp);
+
+        assertThat(store.get(1)).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void nonPositiveIdsAreNeverStored() {
+        put(0, 1);
+        put(-1, 1);
+
+        assertThat(store.get(0)).isNull();
+        assertThat(store.get(-1)).isNull();
+        assertThat(store.size()).isZero();
+
+        // Without the guard, find(0) would match an empty slot and return whatever location it held
+        put(1, 1);
+        store.remove(0);
+        store.remove(-1);
+        assertThat(store.get(1).version()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsOldestSlabWhenFullAndNothingIsDead() {
+        for (long id = 1; id <= 40; id++) {
+            put(id, id);
+        }
+        put(41, 41);
+
+        for (long id = 1; id <= 10; id++) {
+            assertThat(store.get(id)).isNull();
+        }
+        for (long id = 11; id <= 41; id++) {
+            assertThat(store.get(id).version()).isEqualTo(id);
+        }
+        assertThat(meterRegistry.get("offheap_item_store_evictions_total").counter().count()).isEqualTo(10);
+    }
+
+    @Test
+    void compactsMostlyDeadSlabInsteadOfEvicting() {
+        for (long id = 1; id <= 40; id++) {
+            put(id, id);
+        }
+        for (long id = 1; id <= 6; id++) {
+            store.remove(id);
+        }
+        put(41, 41);
+
+        for (long id = 7; id <= 41; id++) {
+            assertThat(store.get(id).version()).isEqualTo(id);
+            assertThat(store.get(id).json()).isEqualTo(json(id));
+        }
+        assertThat(store.size()).isEqualTo(35);
+        assertThat(meterRegistry.get("offheap_item_store_evictions_total").counter().count()).isZero();
+    }
+
+    @Test
+    void indexGrowsPastInitialCapacity() {
+        store = new OffHeapItemStore(DataSize.ofKilobytes(64), DataSize.ofMegabytes(1), meterRegistry);
+        for (long id = 1; id <= 2000; id++) {
+            store.putIfNotInvalidated(id, new EncodedItem(id, Long.toString(id).getBytes(StandardCharsets.UTF_8)), store.stamp());
+        }
+
+        assertThat(store.size()).isEqualTo(2000);
+        for (long id = 1; id <= 2000; id++) {
+            assertThat(new String(store.get(id).json(), StandardCharsets.UTF_8)).isEqualTo(Long.toString(id));
+        }
+    }
+
+    private void put(long id, long version) {
+        store.putIfNotInvalidated(id, new EncodedItem(version, json(id)), store.stamp());
+    }
+
+    private static byte[] json(long id) {
+        byte[] json = new byte[JSON_BYTES];
+        Arrays.fill(json, (byte) ('a' + id % 26));
+        return json;
+    }
+}
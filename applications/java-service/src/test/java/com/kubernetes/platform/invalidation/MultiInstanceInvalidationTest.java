@@ -0,0 +1,113 @@
+package com.kubernetes.platform.invalidation;
+
+import com.kubernetes.platform.JavaServiceApplication;
+import com.kubernetes.platform.cache.EncodedItem;
+import com.kubernetes.platform.cache.OffHeapItemStore;
+import com.kubernetes.platform.model.Item;
+import com.kubernetes.platform.search.ItemSearchIndex;
+import com.kubernetes.platform.search.ItemTrigramIndex;
+import com.kubernetes.platform.service.ItemService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two application contexts in one JVM over one shared database, standing in for two replicas.
+ */
+class MultiInstanceInvalidationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private ConfigurableApplicationContext a;
+    private ConfigurableApplicationContext b;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:shared-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        a = start(url);
+        b = start(url);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (b != null) {
+            b.close();
+        }
+        if (a != null) {
+            a.close();
+        }
+    }
+
+    @Test
+    void writesOnOneInstanceEvictEveryCacheOnTheOther() throws InterruptedException {
+        ItemService serviceA = a.getBean(ItemService.class);
+        ItemService serviceB = b.getBean(ItemService.class);
+        OffHeapItemStore offHeapB = b.getBean(OffHeapItemStore.class);
+        EntityManagerFactory entityManagerFactoryB = b.getBean(EntityManagerFactory.class);
+
+        Item created = serviceA.createItem(new Item("Quillfeather lantern", "Brass, hand-blown glass", "Lighting"));
+        Long id = created.getId();
+
+        // B may not see the row until its own poll has caught up with A's insert
+        awaitTrue(() -> serviceB.getItemJsonById(id).isPresent());
+        EncodedItem primed = serviceB.getItemJsonById(id).orElseThrow();
+        assertThat(offHeapB.get(id)).isNotNull();
+        assertThat(entityManagerFactoryB.getCache().contains(Item.class, id)).isTrue();
+        awaitTrue(() -> searchHits(b, "quillfeather") == 1);
+
+        Item details = new Item("Marrowglen lantern", created.getDescription(), created.getCategory());
+        details.setStatus(created.getStatus());
+        serviceA.updateItem(id, details, null);
+
+        awaitTrue(() -> offHeapB.get(id) == null);
+        awaitTrue(() -> searchHits(b, "marrowglen") == 1 && searchHits(b, "quillfeather") == 0);
+
+        // Reloading the indexes repopulates the second-level cache, so check it holds the new state rather than nothing
+        Item reloaded = serviceB.getItemById(id).orElseThrow();
+        assertThat(entityManagerFactoryB.getCache().contains(Item.class, id)).isTrue();
+        assertThat(reloaded.getName()).isEqualTo("Marrowglen lantern");
+        assertThat(reloaded.getVersion()).isGreaterThan(primed.version());
+        assertThat(serviceB.getItemJsonById(id).orElseThrow().version()).isEqualTo(reloaded.getVersion());
+
+        // Nothing reloads a deleted item, so a stale second-level cache entry would still be served here
+        serviceA.deleteItem(id, null);
+
+        awaitTrue(() -> !entityManagerFactoryB.getCache().contains(Item.class, id) && offHeapB.get(id) == null);
+        awaitTrue(() -> searchHits(b, "marrowglen") == 0);
+        assertThat(serviceB.getItemById(id)).isEmpty();
+        assertThat(serviceB.getItemJsonById(id)).isEmpty();
+    }
+
+    private static long searchHits(ConfigurableApplicationContext context, String query) {
+        long tokenHits = context.getBean(ItemSearchIndex.class).search(query, 0, 10).totalHits();
+        long trigramHits = context.getBean(ItemTrigramIndex.class).search(query, 0, 10).totalHits();
+        return tokenHits == trigramHits ? tokenHits : -1;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("condition not met within %s", TIMEOUT).isNegative();
+            Thread.sleep(50);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String url) {
+        return new SpringApplicationBuilder(JavaServiceApplication.class).run(
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--server.port=0",
+                "--app.warmup.enabled=false",
+                "--app.invalidation.transport=changelog",
+                "--app.invalidation.poll-interval-ms=100");
+    }
+}
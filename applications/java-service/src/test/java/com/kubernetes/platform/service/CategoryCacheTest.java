@@ -0,0 +1,99 @@
+package com.kubernetes.platform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kubernetes.platform.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CategoryCacheTest {
+
+    private ItemRepository itemRepository;
+    private CategoryCache categoryCache;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        // Configured like Spring Boot's mapper, which writes dates as ISO strings
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        categoryCache = new CategoryCache(itemRepository, objectMapper);
+    }
+
+    @Test
+    void servesSnapshotUntilInvalidated() {
+        when(itemRepository.findDistinctCategories()).thenReturn(List.of("API", "Backend"), List.of("API"));
+
+        assertThat(categoryCache.get().categories()).containsExactly("API", "Backend");
+        assertThat(categoryCache.get().categories()).containsExactly("API", "Backend");
+        categoryCache.invalidate();
+        assertThat(categoryCache.get().categories()).containsExactly("API");
+
+        verify(itemRepository, times(2)).findDistinctCategories();
+    }
+
+    @Test
+    void responseTimestampIsFreshOnEveryCall() throws Exception {
+        when(itemRepository.findDistinctCategories()).thenReturn(List.of("API", "Backend"));
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        JsonNode first = objectMapper.readTree(categoryCache.responseJson());
+        Thread.sleep(10);
+        JsonNode second = objectMapper.readTree(categoryCache.responseJson());
+
+        assertThat(first.get("categories")).hasSize(2);
+        assertThat(first.get("count").asInt()).isEqualTo(2);
+        assertThat(second.get("timestamp").asText()).isNotEqualTo(first.get("timestamp").asText());
+        verify(itemRepository, times(1)).findDistinctCategories();
+    }
+
+    @Test
+    void concurrentMissesShareOneReload() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(itemRepository.findDistinctCategories()).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of("API");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CategoryCache.Snapshot>> results = new ArrayList<>();
+            results.add(executor.submit(categoryCache::get));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(categoryCache::get));
+            }
+            // Let the other callers reach the cache while the first load is still running
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<CategoryCache.Snapshot> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).categories()).containsExactly("API");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(itemRepository, times(1)).findDistinctCategories();
+    }
+}